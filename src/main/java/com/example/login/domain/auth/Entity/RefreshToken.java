@@ -1,25 +1,43 @@
 package com.example.login.domain.auth.entity;
 
-import lombok.*;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.annotation.Id;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
+import com.example.login.global.jwt.TokenDigest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 Refresh Token 세션 정보 (기기별 1개)
+ * 토큰 원문 대신 다이제스트만 보관한다
+ */
 @Getter
-@NoArgsConstructor
 @AllArgsConstructor
-@Builder
-@RedisHash(value = "refreshToken", timeToLive = 1209600)
 public class RefreshToken {
 
-    @Id
-    private String memberId;
+    private final String memberId;
+
+    private final String sessionId;
+
+    private final String tokenDigest;
+
+    private final long createdAt;   // epoch millis
 
-    private String token;
+    private final long expiresAt;   // epoch millis
+
+    private final long lastUsedAt;  // epoch millis
+
+    private final String device;
+
+    // 제시된 토큰이 저장된 토큰과 같은지 상수 시간으로 비교
+    public boolean matches(String rawToken) {
+        return MessageDigest.isEqual(
+                tokenDigest.getBytes(StandardCharsets.US_ASCII),
+                TokenDigest.of(rawToken).getBytes(StandardCharsets.US_ASCII));
+    }
 
-    public RefreshToken update(String newToken) {
-        return RefreshToken.builder()
-                .memberId(this.memberId)
-                .token(newToken)
-                .build();
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
     }
 }
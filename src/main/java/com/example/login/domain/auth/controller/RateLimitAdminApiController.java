@@ -0,0 +1,44 @@
+package com.example.login.domain.auth.controller;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.login.domain.auth.dto.response.HeavyHitterResponse;
+import com.example.login.global.ratelimit.HeavyHitterLimiter;
+import com.example.login.global.response.AutoApiResponse;
+import com.example.login.global.response.MemberSuccessCode;
+import com.example.login.global.response.SuccessCode;
+import com.example.login.global.swagger.CustomExceptionDescription;
+import com.example.login.global.swagger.SwaggerResponseDescription;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/rate-limit")
+@RequiredArgsConstructor
+@AutoApiResponse
+@Tag(name = "요청 제한 관리 API", description = "과다 요청 클라이언트 조회 (관리자 전용)")
+public class RateLimitAdminApiController {
+
+    private final HeavyHitterLimiter heavyHitterLimiter;
+
+    @Operation(summary = "과다 요청 클라이언트 조회",
+            description = "현재 윈도우에서 임계치를 넘은 IP, 대역, 로그인 대상 계정을 추정 요청 수 내림차순으로 조회합니다. (rate-limit.sketch.enabled 필요)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/heavy-hitters")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.RATE_LIMIT_VIEW)
+    public List<HeavyHitterResponse> getHeavyHitters() {
+        return heavyHitterLimiter.heavyHitters().stream()
+                .map(HeavyHitterResponse::from)
+                .toList();
+    }
+}
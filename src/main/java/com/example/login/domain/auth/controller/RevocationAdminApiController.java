@@ -0,0 +1,60 @@
+package com.example.login.domain.auth.controller;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.login.domain.auth.service.RevocationEpochService;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.response.AutoApiResponse;
+import com.example.login.global.response.MemberSuccessCode;
+import com.example.login.global.response.SuccessCode;
+import com.example.login.global.swagger.CustomExceptionDescription;
+import com.example.login.global.swagger.SwaggerResponseDescription;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/revocations")
+@RequiredArgsConstructor
+@AutoApiResponse
+@Tag(name = "토큰 폐기 관리 API", description = "회원/역할/전체 단위 토큰 일괄 폐기 (관리자 전용)")
+public class RevocationAdminApiController {
+
+    private final RevocationEpochService revocationEpochService;
+
+    @Operation(summary = "회원 토큰 일괄 폐기", description = "지정한 회원에게 지금까지 발급된 모든 토큰을 무효화합니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @PostMapping("/members/{memberId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.TOKEN_REVOKED)
+    public void revokeMember(@PathVariable Long memberId) {
+        revocationEpochService.revokeMember(String.valueOf(memberId));
+    }
+
+    @Operation(summary = "역할 토큰 일괄 폐기", description = "지정한 역할의 회원에게 지금까지 발급된 모든 토큰을 무효화합니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @PostMapping("/roles/{role}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.TOKEN_REVOKED)
+    public void revokeRole(@PathVariable Role role) {
+        revocationEpochService.revokeRole(role);
+    }
+
+    @Operation(summary = "전체 토큰 일괄 폐기", description = "지금까지 발급된 모든 토큰을 무효화합니다. 장애 대응용입니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @PostMapping("/all")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.TOKEN_REVOKED)
+    public void revokeAll() {
+        revocationEpochService.revokeAll();
+    }
+}
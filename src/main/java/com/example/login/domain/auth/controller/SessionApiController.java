@@ -0,0 +1,91 @@
+package com.example.login.domain.auth.controller;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.login.domain.auth.dto.response.SessionResponse;
+import com.example.login.domain.auth.service.SessionService;
+import com.example.login.domain.member.security.MemberPrincipal;
+import com.example.login.global.response.AutoApiResponse;
+import com.example.login.global.response.MemberSuccessCode;
+import com.example.login.global.response.SuccessCode;
+import com.example.login.global.swagger.CustomExceptionDescription;
+import com.example.login.global.swagger.SwaggerResponseDescription;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/auth/sessions")
+@RequiredArgsConstructor
+@AutoApiResponse
+@Tag(name = "세션 관리 API", description = "기기별 로그인 세션 조회 및 폐기")
+public class SessionApiController {
+
+    private final SessionService sessionService;
+
+    @Operation(summary = "내 세션 목록 조회", description = "로그인된 기기 목록을 최근 사용 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.SESSION_VIEW)
+    public List<SessionResponse> getSessions(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            HttpServletRequest request) {
+
+        return sessionService.getSessions(principal.getMemberId(), request);
+    }
+
+    @Operation(summary = "세션 폐기", description = "지정한 기기의 로그인 세션을 종료합니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @DeleteMapping("/{sessionId}")
+    @PreAuthorize("isAuthenticated()")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.SESSION_REVOKED)
+    public void revokeSession(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @PathVariable String sessionId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        sessionService.revokeSession(principal.getMemberId(), sessionId, request, response);
+    }
+
+    @Operation(summary = "다른 기기 세션 모두 폐기", description = "현재 기기를 제외한 모든 로그인 세션을 종료합니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @DeleteMapping("/others")
+    @PreAuthorize("isAuthenticated()")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.SESSION_REVOKED)
+    public void revokeOtherSessions(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            HttpServletRequest request) {
+
+        sessionService.revokeOtherSessions(principal.getMemberId(), request);
+    }
+
+    @Operation(summary = "모든 세션 폐기", description = "현재 기기를 포함한 모든 로그인 세션을 종료하고 발급된 토큰을 무효화합니다.")
+    @ApiResponse(responseCode = "200", description = "폐기 성공")
+    @DeleteMapping
+    @PreAuthorize("isAuthenticated()")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.SESSION_REVOKED)
+    public void revokeAllSessions(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            HttpServletResponse response) {
+
+        sessionService.revokeAllSessions(principal.getMemberId(), response);
+    }
+}
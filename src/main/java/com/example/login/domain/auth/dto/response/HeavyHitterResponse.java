@@ -0,0 +1,32 @@
+package com.example.login.domain.auth.dto.response;
+
+import java.time.Instant;
+
+import com.example.login.global.ratelimit.HeavyHitter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "과다 요청 클라이언트 응답")
+public class HeavyHitterResponse {
+
+    @Schema(description = "차원:값 형식의 키 (ip, subnet, email 등)", example = "ip:203.0.113.7")
+    private final String key;
+
+    @Schema(description = "윈도우 내 추정 요청 수 (실제 값 이상으로 추정될 수 있음)", example = "152")
+    private final long estimate;
+
+    @Schema(description = "마지막 관측 시각")
+    private final Instant lastSeenAt;
+
+    public static HeavyHitterResponse from(HeavyHitter hitter) {
+        return HeavyHitterResponse.builder()
+                .key(hitter.key())
+                .estimate(hitter.estimate())
+                .lastSeenAt(Instant.ofEpochMilli(hitter.lastSeenAt()))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.login.domain.auth.dto.response;
+
+import java.time.Instant;
+
+import com.example.login.domain.auth.entity.RefreshToken;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "로그인 세션(기기) 응답")
+public class SessionResponse {
+
+    @Schema(description = "세션 ID", example = "q1Zk3vY0Qm2b8s9XwT4r6A")
+    private final String sessionId;
+
+    @Schema(description = "기기 정보 (User-Agent)", example = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7)")
+    private final String device;
+
+    @Schema(description = "로그인 시각")
+    private final Instant createdAt;
+
+    @Schema(description = "마지막 토큰 갱신 시각")
+    private final Instant lastUsedAt;
+
+    @Schema(description = "세션 만료 시각")
+    private final Instant expiresAt;
+
+    @Schema(description = "현재 요청을 보낸 세션 여부", example = "true")
+    private final boolean current;
+
+    public static SessionResponse of(RefreshToken token, boolean current) {
+        return SessionResponse.builder()
+                .sessionId(token.getSessionId())
+                .device(token.getDevice())
+                .createdAt(Instant.ofEpochMilli(token.getCreatedAt()))
+                .lastUsedAt(Instant.ofEpochMilli(token.getLastUsedAt()))
+                .expiresAt(Instant.ofEpochMilli(token.getExpiresAt()))
+                .current(current)
+                .build();
+    }
+}
@@ -1,8 +0,0 @@
-package com.example.login.domain.auth.repository;
-
-
-import com.example.login.domain.auth.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
-
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-}
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.example.login.domain.auth.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.example.login.domain.auth.entity.RefreshToken;
+
+/**
+ * 회원별 Refresh Token 세션 저장소
+ * 회원당 해시 키 하나("rts:{memberId}")에 세션 ID -> 세션 값을 저장한다
+ * 조회/삭제는 세션 단위 O(1), 생성/일괄 폐기는 해당 회원의 세션 수에 비례하며 키스페이스를 스캔하지 않는다
+ * 세션 값 형식: "{현재 다이제스트}[:{직전 다이제스트}]|{생성 시각}|{만료 시각}|{마지막 사용 시각}|{기기 정보}"
+ */
+@Repository
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "rts:";
+    private static final String GRACE_KEY_PREFIX = "rt:grace:";
+    private static final char DIGEST_SEPARATOR = ':';
+    private static final char FIELD_SEPARATOR = '|';
+    private static final String PAIR_SEPARATOR = " ";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final HashOperations<String, String, String> hashOperations;
+    // SHA1은 미리 계산해 두고 EVALSHA로 실행, 서버에 스크립트가 없을 때만 EVAL로 재시도
+    private final RedisScript<String> rotateScript =
+            RedisScript.of(new ClassPathResource("scripts/refresh-token-rotate.lua"), String.class);
+    private final RedisScript<Long> createScript =
+            RedisScript.of(new ClassPathResource("scripts/session-create.lua"), Long.class);
+    private final RedisScript<Long> revokeScript =
+            RedisScript.of(new ClassPathResource("scripts/session-revoke.lua"), Long.class);
+
+    public RefreshTokenStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.hashOperations = redisTemplate.opsForHash();
+    }
+
+    /**
+     * 새 세션 저장, 최대 세션 수를 넘으면 가장 오래된 세션부터 제거
+     * @return 제거된 세션 수
+     */
+    public long create(String memberId, String sessionId, String tokenDigest, long expiresAt,
+                       String device, int maxSessions) {
+        long now = System.currentTimeMillis();
+        String value = encode(tokenDigest, now, expiresAt, now, device);
+        Long evicted = redisTemplate.execute(createScript, List.of(key(memberId)),
+                sessionId, value, String.valueOf(now), String.valueOf(maxSessions),
+                String.valueOf(keyTtl(expiresAt, now)));
+        return evicted != null ? evicted : 0L;
+    }
+
+    public Optional<RefreshToken> find(String memberId, String sessionId) {
+        long now = System.currentTimeMillis();
+        return Optional.ofNullable(hashOperations.get(key(memberId), sessionId))
+                .map(value -> decode(memberId, sessionId, value))
+                .filter(token -> !token.isExpired(now));
+    }
+
+    // 만료되지 않은 세션 목록 (HGETALL, 세션 수에 비례)
+    public List<RefreshToken> findAll(String memberId) {
+        long now = System.currentTimeMillis();
+        Map<String, String> entries = hashOperations.entries(key(memberId));
+        List<RefreshToken> sessions = new ArrayList<>(entries.size());
+        entries.forEach((sessionId, value) -> {
+            RefreshToken token = decode(memberId, sessionId, value);
+            if (!token.isExpired(now)) {
+                sessions.add(token);
+            }
+        });
+        return sessions;
+    }
+
+    public boolean delete(String memberId, String sessionId) {
+        Long removed = hashOperations.delete(key(memberId), sessionId);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 회원의 세션을 한 번의 스크립트 실행으로 폐기
+     * @param keepSessionId 유지할 세션 ID, null이면 전체 폐기
+     * @return 폐기된 세션 수
+     */
+    public long deleteAll(String memberId, String keepSessionId) {
+        Long revoked = redisTemplate.execute(revokeScript, List.of(key(memberId)),
+                keepSessionId != null ? keepSessionId : "");
+        return revoked != null ? revoked : 0L;
+    }
+
+    /**
+     * 제시된 토큰이 세션의 현재 토큰과 같을 때만 새 토큰으로 교체 (한 번의 왕복)
+     * 교체에 성공하면 새 토큰 쌍을 유예 시간 동안 이전 토큰 다이제스트 키에 보관한다
+     */
+    public RotationResult rotate(String memberId, String sessionId, String presentedDigest, String newDigest,
+                                 long expiresAt, String accessToken, String refreshToken, Duration grace) {
+        long now = System.currentTimeMillis();
+        String reply = redisTemplate.execute(rotateScript, List.of(key(memberId), graceKey(presentedDigest)),
+                sessionId, presentedDigest, newDigest, String.valueOf(expiresAt), String.valueOf(now),
+                String.valueOf(keyTtl(expiresAt, now)),
+                accessToken + PAIR_SEPARATOR + refreshToken, String.valueOf(grace.toMillis()));
+        if (reply == null) {
+            return RotationResult.of(Status.MISSING);
+        }
+
+        // "GRACE {access} {refresh}" 또는 상태 문자열
+        String[] parts = reply.split(PAIR_SEPARATOR);
+        Status status = Status.valueOf(parts[0]);
+        if (status == Status.OK) {
+            return new RotationResult(status, accessToken, refreshToken);
+        }
+        if (status == Status.GRACE) {
+            return new RotationResult(status, parts[1], parts[2]);
+        }
+        return RotationResult.of(status);
+    }
+
+    // 모든 Refresh Token의 수명이 같으므로 가장 최근에 기록된 세션의 만료 시각까지 해시를 유지
+    private static long keyTtl(long expiresAt, long now) {
+        return Math.max(1L, expiresAt - now);
+    }
+
+    private static String encode(String digest, long createdAt, long expiresAt, long lastUsedAt, String device) {
+        return digest + FIELD_SEPARATOR + createdAt + FIELD_SEPARATOR + expiresAt
+                + FIELD_SEPARATOR + lastUsedAt + FIELD_SEPARATOR + device;
+    }
+
+    private static RefreshToken decode(String memberId, String sessionId, String value) {
+        String[] fields = value.split("\\|", 5);
+        String digests = fields[0];
+        int sep = digests.indexOf(DIGEST_SEPARATOR);
+        String currentDigest = sep < 0 ? digests : digests.substring(0, sep);
+        return new RefreshToken(memberId, sessionId, currentDigest,
+                Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]),
+                fields.length > 4 ? fields[4] : "");
+    }
+
+    private static String key(String memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static String graceKey(String tokenDigest) {
+        return GRACE_KEY_PREFIX + tokenDigest;
+    }
+
+    public enum Status {
+        OK,        // 교체 성공
+        GRACE,     // 방금 교체된 토큰, 유예 시간 내 동일한 토큰 쌍 반환
+        MISSING,   // 저장된 세션 없음 (만료, 로그아웃 또는 폐기)
+        MISMATCH,  // 현재 토큰과 불일치
+        REUSED     // 이미 교체된 토큰 재사용 감지, 세션 폐기됨
+    }
+
+    /**
+     * 교체 결과, 성공(OK/GRACE) 시에만 클라이언트에 내려줄 토큰 쌍을 담는다
+     */
+    public record RotationResult(Status status, String accessToken, String refreshToken) {
+
+        static RotationResult of(Status status) {
+            return new RotationResult(status, null, null);
+        }
+
+        public boolean isIssued() {
+            return status == Status.OK || status == Status.GRACE;
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.example.login.domain.auth.service;
 
 import com.example.login.domain.auth.dto.response.TokenResponse;
+import com.example.login.domain.auth.repository.RefreshTokenStore.RotationResult;
+import com.example.login.domain.auth.repository.RefreshTokenStore.Status;
 import com.example.login.global.exception.BaseException;
 import com.example.login.global.response.ErrorCode;
 import com.example.login.global.jwt.JwtTokenService;
 import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.jwt.TokenDigest;
+import com.example.login.global.jwt.VerifiedToken;
 import com.example.login.domain.member.entity.MemberEntity;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,9 +35,12 @@ public class AuthenticationService {
     private final RefreshTokenService refreshTokenService;
     private final BlacklistService blacklistService;
     
-    public void issueTokensOnLogin(HttpServletResponse response, MemberEntity member) {
+    // 같은 Refresh Token으로 동시에 들어온 갱신 요청을 한 번의 교체로 합치기 위한 진행 중 작업 (이전 토큰 다이제스트 기준)
+    private final ConcurrentMap<String, CompletableFuture<RotationResult>> inFlightRotations = new ConcurrentHashMap<>();
+    
+    public void issueTokensOnLogin(HttpServletRequest request, HttpServletResponse response, MemberEntity member) {
         log.info("Issuing tokens for member: {}", member.getMemberEmail());
-        jwtTokenService.issueTokens(response, member);
+        jwtTokenService.issueTokens(request, response, member);
     }
     
     public TokenResponse refreshAccessToken(HttpServletRequest request, HttpServletResponse response) {
@@ -47,42 +60,86 @@ public class AuthenticationService {
         );
     }
     
+    // DB를 사용하지 않으며, 동시 요청이 대기하는 동안 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse refreshAllTokens(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = extractRefreshTokenFromRequest(request);
         
-        TokenValidator.TokenValidationResult validation = tokenValidator.validateRefreshToken(refreshToken);
+        TokenValidator.TokenValidationResult validation = tokenValidator.validateRefreshTokenClaims(refreshToken);
         if (!validation.isValid()) {
             throw new BaseException(ErrorCode.INVALID_TOKEN);
         }
         
-        refreshTokenService.deleteRefreshToken(validation.getMemberId());
-        jwtTokenService.reissueAllTokens(response, validation.getMemberId(), validation.getRole(), validation.getEmail());
+        String memberId = validation.getMemberId();
+        RotationResult result = rotateOnce(refreshToken, validation);
+        if (result.status() == Status.REUSED) {
+            log.warn("Refresh token reuse detected, session revoked for member: {}", memberId);
+            throw new BaseException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        if (!result.isIssued()) {
+            log.warn("Refresh token rotation failed ({}) for member: {}", result.status(), memberId);
+            throw new BaseException(ErrorCode.INVALID_TOKEN);
+        }
         
-        log.info("Full token refresh completed for member: {}", validation.getMemberId());
-        return TokenResponse.withRefresh(
-            extractAccessTokenFromResponse(response), 
-            getAccessTokenExpirySeconds()
-        );
+        jwtTokenService.sendTokens(response, result.accessToken(), result.refreshToken());
+        
+        log.info("Full token refresh completed ({}) for member: {}", result.status(), memberId);
+        return TokenResponse.withRefresh(result.accessToken(), getAccessTokenExpirySeconds());
+    }
+    
+    /**
+     * 같은 토큰으로 동시에 들어온 요청 중 하나만 토큰을 발급·교체하고 나머지는 그 결과를 공유
+     * 다른 노드로 분산된 요청은 교체 스크립트의 유예 시간 캐시가 같은 결과를 돌려준다
+     */
+    private RotationResult rotateOnce(String refreshToken, TokenValidator.TokenValidationResult validation) {
+        String oldDigest = TokenDigest.of(refreshToken);
+        CompletableFuture<RotationResult> mine = new CompletableFuture<>();
+        CompletableFuture<RotationResult> inFlight = inFlightRotations.putIfAbsent(oldDigest, mine);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        
+        try {
+            String memberId = validation.getMemberId();
+            String newAccessToken = jwtUtil.createAccessToken(memberId, validation.getRole(), validation.getEmail());
+            String newRefreshToken = jwtUtil.createRefreshToken(memberId, validation.getRole(), validation.getEmail(),
+                    validation.getSessionId());
+            // 비교와 교체를 한 번의 스크립트 실행으로 처리하여 동시 갱신 경쟁을 차단
+            RotationResult result = refreshTokenService.rotateToken(memberId, validation.getSessionId(), refreshToken,
+                    newAccessToken, newRefreshToken);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRotations.remove(oldDigest, mine);
+        }
     }
     
     public void logout(HttpServletRequest request, HttpServletResponse response) {
         jwtUtil.extractRefreshToken(request)
-            .filter(jwtUtil::isRefreshToken)
-            .flatMap(jwtUtil::getId)
-            .ifPresent(memberId -> {
-                refreshTokenService.deleteRefreshToken(memberId);
-                log.info("Refresh token deleted for member: {}", memberId);
+            .flatMap(jwtUtil::verify)
+            .filter(VerifiedToken::isRefreshToken)
+            .filter(verified -> verified.getId() != null && verified.getSessionId() != null)
+            .ifPresent(verified -> {
+                // 현재 기기의 세션만 종료
+                refreshTokenService.deleteRefreshToken(verified.getId(), verified.getSessionId());
+                log.info("Refresh token session deleted for member: {}", verified.getId());
             });
         
         jwtTokenService.expireRefreshCookie(response);
         
         jwtUtil.extractAccessToken(request)
-            .filter(jwtUtil::isAccessToken)
-            .ifPresent(accessToken -> {
-                jwtUtil.getExpiration(accessToken).ifPresent(expiration -> 
-                    blacklistService.addToBlacklist(accessToken, expiration)
-                );
-            });
+            .ifPresent(accessToken -> jwtUtil.verify(accessToken)
+                .filter(VerifiedToken::isAccessToken)
+                .ifPresent(verified ->
+                    blacklistService.addToBlacklist(accessToken, verified)
+                ));
         
         log.info("Logout completed");
     }
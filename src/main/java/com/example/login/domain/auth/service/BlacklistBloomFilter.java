@@ -0,0 +1,183 @@
+package com.example.login.domain.auth.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 블랙리스트 토큰 식별자의 로컬 Bloom filter
+ * 시간 구간별 파티션으로 나누어 Access Token 수명이 지난 파티션은 통째로 버린다
+ * "확실히 없음"이면 Redis 조회 없이 통과시키고, "있을 수도 있음"일 때만 Redis를 조회한다
+ */
+@Slf4j
+@Component
+public class BlacklistBloomFilter implements MessageListener {
+
+    public static final String ADDED_CHANNEL = "blacklist:added";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long partitionMillis;
+    private final int maxPartitions;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Object lock = new Object();
+    private volatile List<Partition> partitions;
+    private List<Partition> rebuilding;
+    // Redis에서 재구성이 끝나기 전에는 항상 Redis를 조회하도록 한다
+    private volatile boolean ready = false;
+
+    public BlacklistBloomFilter(RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
+                                @Value("${blacklist.filter.partition-millis:900000}") long partitionMillis,
+                                @Value("${blacklist.filter.expected-insertions:100000}") int expectedInsertions,
+                                @Value("${blacklist.filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.partitionMillis = partitionMillis;
+        // 가장 오래된 파티션도 Access Token 수명만큼은 유지되도록 파티션 하나를 더 둔다
+        this.maxPartitions = (int) ((accessTokenExpiration + partitionMillis - 1) / partitionMillis) + 1;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.partitions = List.of(newPartition(System.currentTimeMillis()));
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(ADDED_CHANNEL));
+    }
+
+    public boolean mightContain(String tokenId) {
+        if (!ready) {
+            return true;
+        }
+        for (Partition partition : rotateIfNeeded()) {
+            if (partition.filter().mightContain(tokenId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 로컬 필터에 추가하고 다른 노드에도 전파
+     */
+    public void add(String tokenId) {
+        put(tokenId);
+        try {
+            redisTemplate.convertAndSend(ADDED_CHANNEL, tokenId);
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 필터 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis에 남아있는 블랙리스트 키로 필터를 재구성
+     * 시작 시 한 번, 이후 pub/sub 메시지 유실에 대비해 주기적으로 수행한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${blacklist.filter.rebuild-interval-millis:600000}",
+            initialDelayString = "${blacklist.filter.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        List<Partition> fresh = List.of(newPartition(System.currentTimeMillis()));
+        synchronized (lock) {
+            rebuilding = fresh;
+        }
+
+        try {
+            long count = scanBlacklistedIds(id -> fresh.get(0).filter().put(id));
+            synchronized (lock) {
+                partitions = fresh;
+                ready = true;
+            }
+            log.info("블랙리스트 필터 재구성 완료: {}건", count);
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 필터 재구성 실패, 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private void put(String tokenId) {
+        synchronized (lock) {
+            rotateIfNeeded().get(0).filter().put(tokenId);
+            if (rebuilding != null) {
+                rebuilding.get(0).filter().put(tokenId);
+            }
+        }
+    }
+
+    private long scanBlacklistedIds(Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BlacklistService.BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long scanned = 0;
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    consumer.accept(BlacklistService.toTokenId(key));
+                    scanned++;
+                }
+            }
+            return scanned;
+        });
+        return count != null ? count : 0L;
+    }
+
+    // 현재 구간이 지났다면 새 파티션을 앞에 추가하고 수명이 지난 파티션을 제거 (최신 파티션이 index 0)
+    private List<Partition> rotateIfNeeded() {
+        List<Partition> current = partitions;
+        long now = System.currentTimeMillis();
+        if (now < current.get(0).startMillis() + partitionMillis) {
+            return current;
+        }
+
+        synchronized (lock) {
+            current = partitions;
+            if (now < current.get(0).startMillis() + partitionMillis) {
+                return current;
+            }
+            List<Partition> rotated = new ArrayList<>(maxPartitions);
+            rotated.add(newPartition(now));
+            for (int i = 0; i < current.size() && rotated.size() < maxPartitions; i++) {
+                rotated.add(current.get(i));
+            }
+            partitions = List.copyOf(rotated);
+            return partitions;
+        }
+    }
+
+    private Partition newPartition(long startMillis) {
+        return new Partition(startMillis, BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate));
+    }
+
+    private record Partition(long startMillis, BloomFilter<CharSequence> filter) {
+    }
+}
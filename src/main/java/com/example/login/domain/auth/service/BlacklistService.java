@@ -1,37 +1,96 @@
 package com.example.login.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.example.login.global.jwt.AccessTokenCache;
+import com.example.login.global.jwt.TokenDigest;
+import com.example.login.global.jwt.VerifiedToken;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final AccessTokenCache accessTokenCache;
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final boolean legacyKeysEnabled;
 
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    // 토큰 식별자(jti 또는 다이제스트) 기반의 간결한 키
+    static final String BLACKLIST_PREFIX = "bl:";
+    // 토큰 원문을 그대로 사용하던 이전 형식의 키 (롤아웃 기간에만 사용)
+    private static final String LEGACY_BLACKLIST_PREFIX = "blacklist:";
+
+    public BlacklistService(RedisTemplate<String, String> redisTemplate,
+                            AccessTokenCache accessTokenCache,
+                            BlacklistBloomFilter blacklistBloomFilter,
+                            @Value("${blacklist.legacy-keys-enabled:false}") boolean legacyKeysEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.accessTokenCache = accessTokenCache;
+        this.blacklistBloomFilter = blacklistBloomFilter;
+        this.legacyKeysEnabled = legacyKeysEnabled;
+    }
 
     /**
      * Access Token을 블랙리스트에 추가
      */
-    public void addToBlacklist(String accessToken, long expirationMillis) {
-        String key = BLACKLIST_PREFIX + accessToken;
-        redisTemplate.opsForValue().set(key, "logout", Duration.ofMillis(expirationMillis));
-        log.info("블랙리스트 등록: {}, 유효 시간(ms): {}", key, expirationMillis);
+    public void addToBlacklist(String accessToken, VerifiedToken token) {
+        long expirationMillis = token.getRemainingMillis();
+        if (expirationMillis <= 0) {
+            return;
+        }
+
+        String revocationId = revocationId(accessToken, token);
+        Duration ttl = Duration.ofMillis(expirationMillis);
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + revocationId, "1", ttl);
+        if (legacyKeysEnabled) {
+            // 롤아웃 중인 이전 버전 노드도 차단 여부를 알 수 있도록 기존 형식으로도 기록
+            redisTemplate.opsForValue().set(LEGACY_BLACKLIST_PREFIX + accessToken, "logout", ttl);
+        }
+
+        accessTokenCache.invalidate(accessToken);
+        blacklistBloomFilter.add(revocationId);
+        log.info("블랙리스트 등록: {}, 유효 시간(ms): {}", revocationId, expirationMillis);
     }
 
     /**
      * Access Token이 블랙리스트에 존재하는지 확인
      */
-    public boolean isBlacklisted(String accessToken) {
-        String key = BLACKLIST_PREFIX + accessToken;
-        boolean result = redisTemplate.hasKey(key);
-        log.debug("블랙리스트 조회: {}, 결과: {}", key, result);
+    public boolean isBlacklisted(String accessToken, VerifiedToken token) {
+        String revocationId = revocationId(accessToken, token);
+        String key = BLACKLIST_PREFIX + revocationId;
+
+        // 이전 버전 노드가 기록한 키는 로컬 필터에 전파되지 않으므로 롤아웃 중에는 필터를 건너뛴다
+        if (!legacyKeysEnabled) {
+            // 로컬 필터에서 확실히 없다고 판단되면 Redis 조회 생략
+            if (!blacklistBloomFilter.mightContain(revocationId)) {
+                return false;
+            }
+            boolean result = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            log.debug("블랙리스트 조회: {}, 결과: {}", revocationId, result);
+            return result;
+        }
+
+        // 두 형식의 키를 한 번의 EXISTS로 조회
+        Long count = redisTemplate.countExistingKeys(List.of(key, LEGACY_BLACKLIST_PREFIX + accessToken));
+        boolean result = count != null && count > 0;
+        log.debug("블랙리스트 조회(legacy 포함): {}, 결과: {}", revocationId, result);
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * jti가 있으면 jti, 없는 이전 토큰은 토큰 다이제스트를 식별자로 사용
+     */
+    static String revocationId(String accessToken, VerifiedToken token) {
+        return token.getTokenId() != null ? token.getTokenId() : TokenDigest.of(accessToken);
+    }
+
+    // 블랙리스트 Redis 키를 필터에 저장하는 토큰 식별자로 변환
+    static String toTokenId(String key) {
+        return key.substring(BLACKLIST_PREFIX.length());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.login.domain.auth.service;
+
+import com.example.login.global.config.properties.SecurityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정별 로그인 실패 추적 (지수 백오프 + 일시 잠금)
+ * 여러 IP로 분산된 같은 계정 대상 시도가 비밀번호 해시 연산(BCrypt)에 도달하기 전에 차단한다
+ * 계정당 Redis 키 최대 2개("la:{이메일}" 실패 횟수, "la:{이메일}:lock" 잠금)만 사용하며 모두 TTL로 만료된다
+ * Redis 장애 시에는 로그인을 막지 않는다 (IP 단위 요청 제한은 그대로 적용)
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private static final String KEY_PREFIX = "la:";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SecurityProperties.LoginAttempt config;
+    private final RedisScript<Long> failureScript =
+            RedisScript.of(new ClassPathResource("scripts/login-failure.lua"), Long.class);
+
+    public LoginAttemptService(RedisTemplate<String, String> redisTemplate, SecurityProperties securityProperties) {
+        this.redisTemplate = redisTemplate;
+        this.config = securityProperties.getLoginAttempt();
+    }
+
+    /**
+     * 남은 잠금 시간(ms), 잠겨 있지 않으면 0 (PTTL 한 번)
+     */
+    public long remainingLockMillis(String email) {
+        if (!config.isEnabled() || email == null) {
+            return 0L;
+        }
+        try {
+            Long ttl = redisTemplate.getExpire(lockKey(email), TimeUnit.MILLISECONDS);
+            return ttl != null && ttl > 0 ? ttl : 0L;
+        } catch (RuntimeException e) {
+            log.warn("로그인 잠금 조회 실패, 잠금 없이 진행: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    public boolean isLocked(String email) {
+        return remainingLockMillis(email) > 0;
+    }
+
+    /**
+     * 비밀번호 불일치 기록
+     * @return 이번 실패로 걸린 잠금 시간(ms), 0이면 잠금 없음
+     */
+    public long recordFailure(String email) {
+        if (!config.isEnabled() || email == null) {
+            return 0L;
+        }
+        try {
+            Long delay = redisTemplate.execute(failureScript, List.of(counterKey(email), lockKey(email)),
+                    String.valueOf(config.getFreeAttempts()),
+                    String.valueOf(config.getBaseLock().toMillis()),
+                    String.valueOf(config.getMaxLock().toMillis()),
+                    String.valueOf(config.getFailureWindow().toMillis()));
+            if (delay != null && delay > 0) {
+                log.warn("로그인 실패 누적으로 계정 일시 잠금 - 잠금 시간(ms): {}", delay);
+                return delay;
+            }
+            return 0L;
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    // 로그인 성공 시 실패 횟수 초기화
+    public void recordSuccess(String email) {
+        if (!config.isEnabled() || email == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(counterKey(email));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 횟수 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 클러스터에서 두 키가 같은 슬롯에 놓이도록 이메일을 해시 태그로 감싼다
+    private static String counterKey(String email) {
+        return KEY_PREFIX + '{' + email.trim().toLowerCase(Locale.ROOT) + '}';
+    }
+
+    private static String lockKey(String email) {
+        return counterKey(email) + LOCK_SUFFIX;
+    }
+}
@@ -1,34 +1,95 @@
 package com.example.login.domain.auth.service;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.login.domain.auth.entity.RefreshToken;
-import com.example.login.domain.auth.repository.RefreshTokenRepository;
+import com.example.login.domain.auth.repository.RefreshTokenStore;
+import com.example.login.domain.auth.repository.RefreshTokenStore.RotationResult;
+import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.jwt.TokenDigest;
+import com.example.login.global.jwt.VerifiedToken;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // 세션 값 구분자('|')를 제외한 기기 정보 최대 길이
+    private static final int MAX_DEVICE_LENGTH = 200;
 
-    public void saveToken(String memberId, String token) {
-        refreshTokenRepository.save(new RefreshToken(memberId, token));
+    private final RefreshTokenStore refreshTokenStore;
+    private final JWTUtil jwtUtil;
+    private final Duration refreshGrace;
+    private final int maxSessionsPerMember;
+
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore,
+                               JWTUtil jwtUtil,
+                               @Value("${jwt.refresh-grace-millis:10000}") long refreshGraceMillis,
+                               @Value("${jwt.max-sessions-per-member:5}") int maxSessionsPerMember) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtUtil = jwtUtil;
+        this.refreshGrace = Duration.ofMillis(refreshGraceMillis);
+        this.maxSessionsPerMember = maxSessionsPerMember;
     }
 
-    public Optional<RefreshToken> findTokenByMemberId(String memberId) {
-        return refreshTokenRepository.findById(memberId);
+    /**
+     * 새 로그인 세션 저장, 세션 ID와 TTL은 토큰 자체의 클레임(sid, exp)을 따른다
+     */
+    public void saveToken(String memberId, String token, String device) {
+        Optional<VerifiedToken> verified = jwtUtil.verify(token)
+                .filter(v -> v.getSessionId() != null && v.getRemainingMillis() > 0);
+        if (verified.isEmpty()) {
+            log.warn("만료되었거나 세션 정보가 없는 Refresh Token은 저장하지 않습니다. Member: {}", memberId);
+            return;
+        }
+
+        long evicted = refreshTokenStore.create(memberId, verified.get().getSessionId(), TokenDigest.of(token),
+                verified.get().getExpiresAt(), sanitizeDevice(device), maxSessionsPerMember);
+        if (evicted > 0) {
+            log.info("최대 세션 수 초과로 오래된 세션 {}개 제거 - Member: {}", evicted, memberId);
+        }
     }
 
-    public boolean existsByMemberId(String memberId) {
-        return refreshTokenRepository.existsById(memberId);
+    public Optional<RefreshToken> findToken(String memberId, String sessionId) {
+        return refreshTokenStore.find(memberId, sessionId);
     }
 
-    public void deleteRefreshToken(String memberId) {
-        refreshTokenRepository.deleteById(memberId);
+    public List<RefreshToken> findAllTokens(String memberId) {
+        return refreshTokenStore.findAll(memberId);
     }
-}
 
+    public boolean deleteRefreshToken(String memberId, String sessionId) {
+        return refreshTokenStore.delete(memberId, sessionId);
+    }
+
+    // keepSessionId가 null이면 회원의 모든 세션을 폐기
+    public long deleteAllRefreshTokens(String memberId, String keepSessionId) {
+        return refreshTokenStore.deleteAll(memberId, keepSessionId);
+    }
+
+    /**
+     * 제시된 토큰을 방금 발급한 새 토큰 쌍으로 원자적으로 교체
+     * 유예 시간 안에 같은 토큰이 다시 제시되면 이미 발급된 토큰 쌍을 돌려준다
+     */
+    public RotationResult rotateToken(String memberId, String sessionId, String presentedToken,
+                                      String newAccessToken, String newRefreshToken) {
+        // 새 토큰은 방금 발급했으므로 설정된 만료 시간으로 만료 시각을 계산
+        long expiresAt = System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration();
+        return refreshTokenStore.rotate(memberId, sessionId, TokenDigest.of(presentedToken),
+                TokenDigest.of(newRefreshToken), expiresAt, newAccessToken, newRefreshToken, refreshGrace);
+    }
+
+    private static String sanitizeDevice(String device) {
+        if (device == null) {
+            return "";
+        }
+        String sanitized = device.replace('|', ' ');
+        return sanitized.length() > MAX_DEVICE_LENGTH ? sanitized.substring(0, MAX_DEVICE_LENGTH) : sanitized;
+    }
+}
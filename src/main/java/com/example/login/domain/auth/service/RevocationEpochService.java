@@ -0,0 +1,177 @@
+package com.example.login.domain.auth.service;
+
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.jwt.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "이 시각 이전에 발급된 토큰은 모두 무효" 기준 시각(epoch) 관리
+ * 회원, 역할, 전체 단위로 Redis에 한 번만 기록하고 로컬에 캐시하여 토큰의 iat와 비교한다
+ * 토큰 개수와 무관하게 회원당 O(1) 상태만 유지한다
+ */
+@Slf4j
+@Service
+public class RevocationEpochService implements MessageListener {
+
+    public static final String EPOCH_CHANNEL = "revoke:epoch";
+    private static final String MEMBER_PREFIX = "revoke:member:";
+    private static final String ROLE_PREFIX = "revoke:role:";
+    private static final String ALL_KEY = "revoke:all";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // 가장 긴 토큰 수명이 지나면 기준 시각은 의미가 없으므로 그만큼만 보관
+    private final Duration epochTtl;
+    private final Cache<String, Long> memberEpochs;
+    // 요청마다 읽기만 하므로 변경 시 새 맵으로 교체 (copy-on-write)
+    private volatile Map<Role, Long> roleEpochs = new EnumMap<>(Role.class);
+    private volatile long globalEpoch = 0L;
+
+    public RevocationEpochService(RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${jwt.refresh-token-expiration:86400000}") long refreshTokenExpiration,
+                                  @Value("${revocation.member-cache.max-size:100000}") long memberCacheMaxSize,
+                                  @Value("${revocation.member-cache.ttl-millis:300000}") long memberCacheTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.epochTtl = Duration.ofMillis(refreshTokenExpiration);
+        this.memberEpochs = Caffeine.newBuilder()
+                .maximumSize(memberCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(memberCacheTtlMillis))
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(EPOCH_CHANNEL));
+    }
+
+    /**
+     * 토큰 발급 시각(ms)이 회원/역할/전체 기준 시각(ms)보다 이전이면 폐기된 토큰
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        long issuedAt = token.getIssuedAt();
+        long notBefore = Math.max(globalEpoch, roleEpoch(token.getRole()));
+        if (issuedAt < notBefore) {
+            return true;
+        }
+        return token.getId() != null && issuedAt < memberEpoch(token.getId());
+    }
+
+    public void revokeMember(String memberId) {
+        bump(MEMBER_PREFIX + memberId);
+    }
+
+    public void revokeRole(Role role) {
+        bump(ROLE_PREFIX + role.name());
+    }
+
+    public void revokeAll() {
+        bump(ALL_KEY);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ");
+        apply(parts[0], toMillis(Long.parseLong(parts[1])));
+    }
+
+    /**
+     * 역할/전체 기준 시각을 Redis에서 다시 읽어온다
+     * 시작 시 한 번, 이후 pub/sub 메시지 유실에 대비해 주기적으로 수행한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${revocation.refresh-interval-millis:60000}",
+            initialDelayString = "${revocation.refresh-interval-millis:60000}")
+    public void refreshSharedEpochs() {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL_KEY);
+        for (Role role : Role.values()) {
+            keys.add(ROLE_PREFIX + role.name());
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return;
+            }
+            Map<Role, Long> refreshed = new EnumMap<>(Role.class);
+            for (Role role : Role.values()) {
+                refreshed.put(role, parseEpoch(values.get(role.ordinal() + 1)));
+            }
+            synchronized (this) {
+                globalEpoch = parseEpoch(values.get(0));
+                roleEpochs = refreshed;
+            }
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 기준 시각 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 기준 시각을 다음 ms로 올려 지금까지 발급된 토큰만 무효화 (초 단위로 올리면 직후 재로그인한 토큰까지 폐기됨)
+    private void bump(String key) {
+        long epoch = System.currentTimeMillis() + 1;
+        redisTemplate.opsForValue().set(key, Long.toString(epoch), epochTtl);
+        apply(key, epoch);
+        redisTemplate.convertAndSend(EPOCH_CHANNEL, key + " " + epoch);
+        log.info("토큰 폐기 기준 시각 갱신: {} -> {}", key, epoch);
+    }
+
+    private void apply(String key, long epoch) {
+        if (key.equals(ALL_KEY)) {
+            synchronized (this) {
+                globalEpoch = Math.max(globalEpoch, epoch);
+            }
+        } else if (key.startsWith(ROLE_PREFIX)) {
+            Role role = Role.valueOf(key.substring(ROLE_PREFIX.length()));
+            synchronized (this) {
+                Map<Role, Long> updated = new EnumMap<>(Role.class);
+                updated.putAll(roleEpochs);
+                updated.merge(role, epoch, Math::max);
+                roleEpochs = updated;
+            }
+        } else if (key.startsWith(MEMBER_PREFIX)) {
+            memberEpochs.asMap().merge(key.substring(MEMBER_PREFIX.length()), epoch, Math::max);
+        }
+    }
+
+    private long roleEpoch(Role role) {
+        return role != null ? roleEpochs.getOrDefault(role, 0L) : 0L;
+    }
+
+    // 로컬 캐시에 없으면 Redis에서 한 번 읽어오고, 기록이 없으면 0으로 캐시
+    private long memberEpoch(String memberId) {
+        return memberEpochs.get(memberId, id -> {
+            try {
+                return parseEpoch(redisTemplate.opsForValue().get(MEMBER_PREFIX + id));
+            } catch (DataAccessException e) {
+                log.warn("회원 토큰 폐기 기준 시각 조회 실패: {}", e.getMessage());
+                return 0L;
+            }
+        });
+    }
+
+    private static long parseEpoch(String value) {
+        return value != null ? toMillis(Long.parseLong(value)) : 0L;
+    }
+
+    // 이전 버전이 초 단위로 기록한 기준 시각도 ms로 해석 (10^11 미만은 ms로는 1973년 이전이므로 초 단위로 간주)
+    private static long toMillis(long epoch) {
+        return epoch < 100_000_000_000L ? epoch * 1000 : epoch;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.login.domain.auth.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.login.domain.auth.dto.response.SessionResponse;
+import com.example.login.domain.auth.entity.RefreshToken;
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.jwt.JwtTokenService;
+import com.example.login.global.jwt.VerifiedToken;
+import com.example.login.global.response.ErrorCode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원의 기기별 로그인 세션 조회/폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    private final JWTUtil jwtUtil;
+    private final JwtTokenService jwtTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationEpochService revocationEpochService;
+
+    public List<SessionResponse> getSessions(String memberId, HttpServletRequest request) {
+        String currentSessionId = currentSessionId(memberId, request);
+        return refreshTokenService.findAllTokens(memberId).stream()
+                .sorted(Comparator.comparingLong(RefreshToken::getLastUsedAt).reversed())
+                .map(token -> SessionResponse.of(token, token.getSessionId().equals(currentSessionId)))
+                .toList();
+    }
+
+    public void revokeSession(String memberId, String sessionId,
+                              HttpServletRequest request, HttpServletResponse response) {
+        if (!refreshTokenService.deleteRefreshToken(memberId, sessionId)) {
+            throw new BaseException(ErrorCode.SESSION_NOT_FOUND);
+        }
+        if (sessionId.equals(currentSessionId(memberId, request))) {
+            jwtTokenService.expireRefreshCookie(response);
+        }
+        log.info("세션 폐기 - Member: {}, Session: {}", memberId, sessionId);
+    }
+
+    // 현재 기기를 제외한 모든 세션 폐기
+    // 현재 세션을 식별할 수 없으면 거부 (null을 넘기면 현재 기기까지 모두 폐기되므로)
+    public void revokeOtherSessions(String memberId, HttpServletRequest request) {
+        String currentSessionId = currentSessionId(memberId, request);
+        if (currentSessionId == null) {
+            throw new BaseException(ErrorCode.SESSION_NOT_FOUND);
+        }
+        long revoked = refreshTokenService.deleteAllRefreshTokens(memberId, currentSessionId);
+        log.info("다른 기기 세션 {}개 폐기 - Member: {}", revoked, memberId);
+    }
+
+    // 모든 세션 폐기, 이미 발급된 Access Token도 기준 시각으로 즉시 무효화
+    public void revokeAllSessions(String memberId, HttpServletResponse response) {
+        long revoked = refreshTokenService.deleteAllRefreshTokens(memberId, null);
+        revocationEpochService.revokeMember(memberId);
+        jwtTokenService.expireRefreshCookie(response);
+        log.info("전체 세션 {}개 폐기 - Member: {}", revoked, memberId);
+    }
+
+    // 요청의 Refresh Token 쿠키로 현재 세션 식별 (없으면 null)
+    private String currentSessionId(String memberId, HttpServletRequest request) {
+        return jwtUtil.extractRefreshToken(request)
+                .flatMap(jwtUtil::verify)
+                .filter(VerifiedToken::isRefreshToken)
+                .filter(verified -> memberId.equals(verified.getId()))
+                .map(VerifiedToken::getSessionId)
+                .orElse(null);
+    }
+}
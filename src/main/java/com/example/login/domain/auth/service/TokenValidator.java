@@ -1,8 +1,7 @@
 package com.example.login.domain.auth.service;
 
 import com.example.login.global.jwt.JWTUtil;
-import com.example.login.domain.auth.entity.RefreshToken;
-import com.example.login.domain.auth.repository.RefreshTokenRepository;
+import com.example.login.global.jwt.VerifiedToken;
 import com.example.login.domain.member.entity.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,45 +19,67 @@ import java.util.Optional;
 public class TokenValidator {
     
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationEpochService revocationEpochService;
     
     /**
      * Refresh Token의 종합적 검증
      */
     public TokenValidationResult validateRefreshToken(String refreshToken) {
-        // 1. JWT 형식 및 만료시간 검증
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
+        TokenValidationResult result = validateRefreshTokenClaims(refreshToken);
+        if (!result.isValid()) {
+            return result;
+        }
+
+        // Redis에 저장된 세션 토큰과 일치 여부 확인
+        String memberId = result.getMemberId();
+        boolean matched = refreshTokenService.findToken(memberId, result.getSessionId())
+                .map(stored -> stored.matches(refreshToken))
+                .orElse(false);
+        if (!matched) {
+            log.warn("Refresh token not found or mismatched for member: {}", memberId);
+            return TokenValidationResult.invalid("Token not found or mismatched");
+        }
+
+        log.debug("Refresh token validation successful for member: {}", memberId);
+        return result;
+    }
+
+    /**
+     * 저장소 조회 없이 Refresh Token 자체(서명, 만료, 클레임, 일괄 폐기)만 검증
+     * 저장된 토큰과의 비교는 교체 스크립트에서 원자적으로 수행할 때 사용
+     */
+    public TokenValidationResult validateRefreshTokenClaims(String refreshToken) {
+        // 1. JWT 형식 및 만료시간 검증 (서명 검증은 한 번만 수행)
+        Optional<VerifiedToken> verifiedOpt = jwtUtil.verify(refreshToken)
+                .filter(VerifiedToken::isRefreshToken);
+        if (verifiedOpt.isEmpty()) {
             log.warn("Invalid refresh token format or expired");
             return TokenValidationResult.invalid("Invalid or expired refresh token");
         }
-        
-        // 2. 토큰에서 사용자 ID 추출
-        Optional<String> memberIdOpt = jwtUtil.getId(refreshToken);
-        if (memberIdOpt.isEmpty()) {
+
+        VerifiedToken verified = verifiedOpt.get();
+
+        // 2. 토큰에서 사용자 ID, 세션 ID 추출
+        String memberId = verified.getId();
+        if (memberId == null || verified.getSessionId() == null) {
             log.warn("Cannot extract member ID from refresh token");
             return TokenValidationResult.invalid("Invalid token payload");
         }
         
-        String memberId = memberIdOpt.get();
-        
-        // 3. Redis에 저장된 토큰과 일치 여부 확인
-        RefreshToken storedToken = refreshTokenRepository.findById(memberId).orElse(null);
-        if (storedToken == null || !storedToken.getToken().equals(refreshToken)) {
-            log.warn("Refresh token not found or mismatched for member: {}", memberId);
-            return TokenValidationResult.invalid("Token not found or mismatched");
+        // 3. 회원/역할/전체 단위 일괄 폐기 여부 확인
+        if (revocationEpochService.isRevoked(verified)) {
+            log.warn("Refresh token revoked by epoch for member: {}", memberId);
+            return TokenValidationResult.invalid("Token revoked");
         }
-        
+
         // 4. 토큰에서 추가 정보 추출
-        Optional<String> emailOpt = jwtUtil.getEmail(refreshToken);
-        Optional<Role> roleOpt = jwtUtil.getRole(refreshToken);
-        
-        if (emailOpt.isEmpty() || roleOpt.isEmpty()) {
+        if (verified.getEmail() == null || verified.getRole() == null) {
             log.warn("Cannot extract email or role from refresh token");
             return TokenValidationResult.invalid("Invalid token claims");
         }
         
-        log.debug("Refresh token validation successful for member: {}", memberId);
-        return TokenValidationResult.valid(memberId, emailOpt.get(), roleOpt.get());
+        return TokenValidationResult.valid(memberId, verified.getSessionId(), verified.getEmail(), verified.getRole());
     }
     
     /**
@@ -74,29 +95,33 @@ public class TokenValidator {
     public static class TokenValidationResult {
         private final boolean valid;
         private final String memberId;
+        private final String sessionId;
         private final String email;
         private final Role role;
         private final String errorMessage;
         
-        private TokenValidationResult(boolean valid, String memberId, String email, Role role, String errorMessage) {
+        private TokenValidationResult(boolean valid, String memberId, String sessionId, String email, Role role,
+                                      String errorMessage) {
             this.valid = valid;
             this.memberId = memberId;
+            this.sessionId = sessionId;
             this.email = email;
             this.role = role;
             this.errorMessage = errorMessage;
         }
         
-        public static TokenValidationResult valid(String memberId, String email, Role role) {
-            return new TokenValidationResult(true, memberId, email, role, null);
+        public static TokenValidationResult valid(String memberId, String sessionId, String email, Role role) {
+            return new TokenValidationResult(true, memberId, sessionId, email, role, null);
         }
         
         public static TokenValidationResult invalid(String errorMessage) {
-            return new TokenValidationResult(false, null, null, null, errorMessage);
+            return new TokenValidationResult(false, null, null, null, null, errorMessage);
         }
         
         // Getters
         public boolean isValid() { return valid; }
         public String getMemberId() { return memberId; }
+        public String getSessionId() { return sessionId; }
         public String getEmail() { return email; }
         public Role getRole() { return role; }
         public String getErrorMessage() { return errorMessage; }
@@ -0,0 +1,371 @@
+package com.example.login.domain.member.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입된 이메일의 로컬 Bloom filter (이메일 중복 확인 빠른 경로)
+ * "확실히 없음"이면 DB 조회 없이 사용 가능으로 응답하고, "있을 수도 있음"일 때만 유니크 인덱스를 조회한다
+ * 가입 시 추가한 이메일은 Redis pub/sub으로 다른 노드에 전파하며,
+ * 주기적인 재구성은 한 노드만 DB를 읽어 Redis에 스냅샷으로 올리고 나머지 노드는 스냅샷을 내려받는다
+ * 탈퇴한 이메일은 필터에서 뺄 수 없으므로 다음 재구성 전까지 DB 조회로 판정된다
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter implements MessageListener {
+
+    public static final String ADDED_CHANNEL = "member:email-filter:added";
+    private static final String SNAPSHOT_KEY = "member:email-filter:snapshot";
+    private static final String REBUILD_LOCK_KEY = "member:email-filter:lock";
+    private static final String SELECT_EMAILS_SQL = "select member_email from member_table where member_email is not null";
+    private static final String MESSAGE_DELIMITER = "\n";
+    // 노드 간 시계 차이를 고려해 스냅샷 시작 시각보다 조금 앞선 추가분부터 다시 반영
+    private static final long CLOCK_SKEW_MILLIS = 60_000L;
+    private static final Funnel<CharSequence> FUNNEL = Funnels.stringFunnel(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+
+    private final Object lock = new Object();
+    private volatile BloomFilter<CharSequence> filter;
+    private BloomFilter<CharSequence> rebuilding;
+    // 필터를 만들기 시작한 시각, 이보다 새로운 스냅샷만 내려받는다
+    private long builtAt;
+    // 스냅샷에 빠졌을 수 있는 최근 추가분을 담는 델타 필터 두 세대 (스냅샷 교체 시 합쳐서 반영)
+    // 이메일 문자열을 보관하지 않으므로 일괄 등록 규모와 무관하게 메모리는 필터 두 개 크기로 고정된다
+    private Delta currentDelta;
+    private Delta previousDelta;
+    // DB에서 구성이 끝나기 전에는 항상 DB를 조회하도록 한다
+    private volatile boolean ready = false;
+
+    private final Counter absentCounter;
+    private final Counter maybePresentCounter;
+    private final Counter falsePositiveCounter;
+    private final AtomicLong deletedSinceRebuild = new AtomicLong();
+    private final Timer databaseRebuildTimer;
+    private final Timer snapshotRebuildTimer;
+
+    public EmailBloomFilter(RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            DataSource dataSource,
+                            MeterRegistry meterRegistry,
+                            @Value("${member.email-filter.fetch-size:5000}") int fetchSize,
+                            @Value("${member.email-filter.expected-insertions:1000000}") int expectedInsertions,
+                            @Value("${member.email-filter.false-positive-rate:0.001}") double falsePositiveRate,
+                            @Value("${member.email-filter.rebuild-interval-millis:3600000}") long rebuildIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // PostgreSQL 드라이버는 autocommit이 꺼진 트랜잭션 안에서만 fetchSize 단위로 커서를 사용한다
+        this.readOnlyTransaction = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.filter = newFilter();
+        this.currentDelta = new Delta(System.currentTimeMillis(), newFilter());
+
+        this.absentCounter = Counter.builder("member.email_filter.checks").tag("result", "absent")
+                .description("DB 조회 없이 사용 가능으로 판정한 횟수").register(meterRegistry);
+        this.maybePresentCounter = Counter.builder("member.email_filter.checks").tag("result", "maybe_present")
+                .description("DB 조회로 넘긴 횟수").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("member.email_filter.false_positives")
+                .description("필터는 있을 수도 있다고 했지만 DB에 없던 횟수").register(meterRegistry);
+        Gauge.builder("member.email_filter.expected_fpp", this, f -> f.filter.expectedFpp())
+                .description("현재 필터의 추정 오탐률").register(meterRegistry);
+        Gauge.builder("member.email_filter.observed_fpp", this, EmailBloomFilter::observedFalsePositiveRate)
+                .description("실제 관측된 오탐률 (오탐 / DB에 없던 전체 조회)").register(meterRegistry);
+        Gauge.builder("member.email_filter.elements", this, f -> f.filter.approximateElementCount())
+                .register(meterRegistry);
+        Gauge.builder("member.email_filter.deleted_since_rebuild", deletedSinceRebuild, AtomicLong::get)
+                .description("다음 재구성 때 제거될 탈퇴 이메일 수").register(meterRegistry);
+        this.databaseRebuildTimer = Timer.builder("member.email_filter.rebuild").tag("source", "database")
+                .register(meterRegistry);
+        this.snapshotRebuildTimer = Timer.builder("member.email_filter.rebuild").tag("source", "snapshot")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(ADDED_CHANNEL));
+    }
+
+    /**
+     * false면 해당 이메일로 가입된 회원이 확실히 없음
+     */
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(normalize(email));
+        (maybe ? maybePresentCounter : absentCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * mightContain이 true였지만 DB에 없던 경우 호출 (관측 오탐률 집계)
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 로컬 필터에 추가하고 다른 노드에도 전파
+     * INSERT 전에 호출해야 커밋 직후 다른 요청이 "확실히 없음"으로 판정하는 구간이 생기지 않는다
+     */
+    public void add(String email) {
+        if (email != null) {
+            addAll(List.of(email));
+        }
+    }
+
+    /**
+     * 여러 이메일을 메시지 하나로 전파 (일괄 등록용)
+     */
+    public void addAll(Collection<String> emails) {
+        StringJoiner message = new StringJoiner(MESSAGE_DELIMITER);
+        for (String email : emails) {
+            if (email == null) {
+                continue;
+            }
+            String normalized = normalize(email);
+            put(normalized);
+            message.add(normalized);
+        }
+        if (message.length() == 0) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(ADDED_CHANNEL, message.toString());
+        } catch (DataAccessException e) {
+            log.warn("이메일 필터 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 탈퇴 기록 (필터에서 제거할 수 없으므로 재구성 대상 수만 집계)
+     */
+    public void markDeleted() {
+        deletedSinceRebuild.incrementAndGet();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String email : new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_DELIMITER)) {
+            if (!email.isEmpty()) {
+                put(email);
+            }
+        }
+    }
+
+    /**
+     * 시작 시 한 번, 이후 주기적으로 재구성 (탈퇴 이메일 정리, pub/sub 메시지 유실 보정)
+     * 다른 노드가 주기 안에 만든 스냅샷이 있으면 내려받고, 없으면 락을 잡은 노드 하나만 DB를 읽어 스냅샷을 올린다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${member.email-filter.rebuild-interval-millis:3600000}",
+            initialDelayString = "${member.email-filter.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        try {
+            if (loadSnapshot()) {
+                return;
+            }
+            boolean leader = tryLock();
+            if (!leader && ready) {
+                // 다른 노드가 재구성 중, 다음 주기에 스냅샷을 내려받는다
+                return;
+            }
+            rebuildFromDatabase(leader);
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("이메일 필터 재구성 실패, 기존 필터 유지: {}", e.getMessage());
+        }
+    }
+
+    private boolean loadSnapshot() {
+        byte[] bytes;
+        try {
+            bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(SNAPSHOT_KEY.getBytes(StandardCharsets.UTF_8)));
+        } catch (DataAccessException e) {
+            log.warn("이메일 필터 스냅샷 조회 실패: {}", e.getMessage());
+            return false;
+        }
+        if (bytes == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            long startedAt = in.readLong();
+            // 재구성 주기가 지난 스냅샷은 이미 적용한 것이라도 다시 만들도록 먼저 확인 (탈퇴 이메일 정리)
+            if (System.currentTimeMillis() - startedAt >= rebuildIntervalMillis) {
+                return false;
+            }
+            synchronized (lock) {
+                if (startedAt <= builtAt) {
+                    // 이미 같은 스냅샷이거나 더 최신 필터를 사용 중
+                    return ready;
+                }
+            }
+            BloomFilter<CharSequence> loaded = BloomFilter.readFrom(in, FUNNEL);
+            install(loaded, startedAt);
+        } catch (IOException | IllegalArgumentException e) {
+            // 설정이 다른 노드가 올린 스냅샷 등, 읽을 수 없으면 DB에서 다시 만든다
+            log.warn("이메일 필터 스냅샷을 읽을 수 없음: {}", e.getMessage());
+            return false;
+        }
+        snapshotRebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("이메일 필터 스냅샷 적용 완료 ({}바이트)", bytes.length);
+        return true;
+    }
+
+    private void rebuildFromDatabase(boolean publish) {
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        BloomFilter<CharSequence> fresh = newFilter();
+        synchronized (lock) {
+            rebuilding = fresh;
+        }
+
+        try {
+            AtomicLong count = new AtomicLong();
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(SELECT_EMAILS_SQL, rs -> {
+                fresh.put(normalize(rs.getString(1)));
+                count.incrementAndGet();
+            }));
+            // 재구성 직전에 추가되었지만 SELECT 시점에 아직 커밋되지 않은 이메일은 조회 결과에 없으므로
+            // 스냅샷 적용과 같이 델타 필터를 합친 뒤 교체
+            install(fresh, startedAt);
+            long elapsed = System.nanoTime() - start;
+            databaseRebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("이메일 필터 재구성 완료: {}건, {}ms", count.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } finally {
+            synchronized (lock) {
+                rebuilding = null;
+            }
+        }
+
+        if (publish) {
+            publishSnapshot(fresh, startedAt);
+        }
+    }
+
+    private void publishSnapshot(BloomFilter<CharSequence> snapshot, long startedAt) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeLong(startedAt);
+            snapshot.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = buffer.toByteArray();
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                    SNAPSHOT_KEY.getBytes(StandardCharsets.UTF_8), bytes,
+                    Expiration.milliseconds(rebuildIntervalMillis * 2), RedisStringCommands.SetOption.upsert()));
+        } catch (DataAccessException e) {
+            log.warn("이메일 필터 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 재구성 주기 동안 한 노드만 DB를 읽도록 하는 락 (해제하지 않고 만료에 맡긴다)
+    private boolean tryLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(
+                    REBUILD_LOCK_KEY, "1", rebuildIntervalMillis / 2, TimeUnit.MILLISECONDS));
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 각 노드가 직접 DB에서 재구성
+            return false;
+        }
+    }
+
+    // 스냅샷 생성 이후 추가된 이메일을 델타 필터로 합친 뒤 교체 (설정이 같은 노드끼리만 호환)
+    private void install(BloomFilter<CharSequence> loaded, long startedAt) {
+        synchronized (lock) {
+            loaded.putAll(currentDelta.filter());
+            // 현재 세대가 스냅샷 시작 이후에 시작했다면 그 사이 추가분은 이전 세대에 있다
+            if (previousDelta != null && currentDelta.startedAt() > startedAt - CLOCK_SKEW_MILLIS) {
+                loaded.putAll(previousDelta.filter());
+            }
+            filter = loaded;
+            builtAt = startedAt;
+            ready = true;
+        }
+        deletedSinceRebuild.set(0);
+    }
+
+    private void put(String normalized) {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            filter.put(normalized);
+            if (rebuilding != null) {
+                rebuilding.put(normalized);
+            }
+            // 세대 길이가 스냅샷 유효 기간(재구성 주기) + 시계 오차 이상이므로 두 세대면 필요한 추가분을 모두 덮는다
+            if (now - currentDelta.startedAt() >= rebuildIntervalMillis + CLOCK_SKEW_MILLIS) {
+                previousDelta = currentDelta;
+                currentDelta = new Delta(now, newFilter());
+            }
+            currentDelta.filter().put(normalized);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double negatives = falsePositives + absentCounter.count();
+        return negatives == 0 ? 0.0 : falsePositives / negatives;
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(FUNNEL, expectedInsertions, falsePositiveRate);
+    }
+
+    // 대소문자/공백만 다른 이메일은 같은 값으로 취급 (필터가 더 넓게 "있을 수도 있음"으로 판정할 뿐 누락되지 않음)
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Delta(long startedAt, BloomFilter<CharSequence> filter) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.login.domain.member.cache;
+
+import com.example.login.domain.member.entity.MemberEntity;
+import com.example.login.domain.member.repository.MemberRepository;
+import com.example.login.global.config.properties.MemberCacheProperties;
+import com.example.login.global.oauth2.entity.SocialType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 회원 조회용 2단계 캐시
+ * L1: 노드 내부 Caffeine 캐시 (크기 제한 + TTL), L2: Redis
+ * 변경 시 Redis pub/sub으로 모든 노드의 L1을 무효화한다
+ * 같은 키에 대한 동시 미스는 Caffeine이 하나의 로딩으로 합친다 (single-flight)
+ */
+@Slf4j
+@Component
+public class MemberCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "member:cache:invalidate";
+    private static final String L2_PREFIX = "member:cache:";
+    private static final String KEY_DELIMITER = "\n";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration l2Ttl;
+    private final Cache<String, MemberSnapshot> l1;
+
+    public MemberCache(MemberRepository memberRepository,
+                       RedisTemplate<String, String> redisTemplate,
+                       ObjectMapper objectMapper,
+                       MemberCacheProperties properties,
+                       MeterRegistry meterRegistry,
+                       RedisMessageListenerContainer listenerContainer) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.l2Ttl = properties.getL2Ttl();
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(properties.getL1MaxSize())
+                .expireAfterWrite(properties.getL1Ttl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "memberCache");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<MemberSnapshot> findById(Long id) {
+        return get(idKey(id), () -> memberRepository.findById(id));
+    }
+
+    public Optional<MemberSnapshot> findByEmail(String email) {
+        return get(emailKey(email), () -> memberRepository.findByMemberEmail(email));
+    }
+
+    public Optional<MemberSnapshot> findBySocial(SocialType socialType, String socialId) {
+        return get(socialKey(socialType, socialId), () -> memberRepository.findBySocialTypeAndSocialId(socialType, socialId));
+    }
+
+    /**
+     * 회원 정보 변경/삭제 후 모든 노드의 캐시를 무효화
+     * 트랜잭션 안이라면 커밋 이후에 실행하여 커밋 전 데이터가 다시 캐시되지 않도록 한다
+     */
+    public void evict(MemberEntity member) {
+        List<String> keys = keysOf(member);
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.delete(keys.stream().map(key -> L2_PREFIX + key).toList());
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(KEY_DELIMITER, keys));
+            } catch (DataAccessException e) {
+                log.warn("회원 캐시 무효화 전파 실패: {}", e.getMessage());
+            }
+            l1.invalidateAll(keys);
+        });
+    }
+
+    // 다른 노드에서 전파된 무효화 메시지 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        l1.invalidateAll(Arrays.asList(body.split(KEY_DELIMITER)));
+    }
+
+    private Optional<MemberSnapshot> get(String key, Supplier<Optional<MemberEntity>> loader) {
+        return Optional.ofNullable(l1.get(key, k -> load(k, loader)));
+    }
+
+    // L1 미스: L2(Redis) 조회 후 없으면 DB 조회 결과를 L2에 저장
+    private MemberSnapshot load(String key, Supplier<Optional<MemberEntity>> loader) {
+        MemberSnapshot cached = readL2(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MemberSnapshot snapshot = loader.get()
+                .map(MemberSnapshot::from)
+                .orElse(null);
+        if (snapshot != null) {
+            writeL2(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    private MemberSnapshot readL2(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(L2_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, MemberSnapshot.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 L2 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, MemberSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(L2_PREFIX + key, objectMapper.writeValueAsString(snapshot), l2Ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 L2 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<String> keysOf(MemberEntity member) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(idKey(member.getId()));
+        if (member.getMemberEmail() != null) {
+            keys.add(emailKey(member.getMemberEmail()));
+        }
+        if (member.getSocialType() != null && member.getSocialId() != null) {
+            keys.add(socialKey(member.getSocialType(), member.getSocialId()));
+        }
+        return keys;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String idKey(Long id) {
+        return "id:" + id;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    private static String socialKey(SocialType socialType, String socialId) {
+        return "social:" + socialType.name() + ":" + socialId;
+    }
+}
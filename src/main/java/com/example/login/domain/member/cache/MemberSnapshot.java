@@ -0,0 +1,37 @@
+package com.example.login.domain.member.cache;
+
+import com.example.login.domain.member.entity.MemberEntity;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.oauth2.entity.SocialType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장하는 회원 정보 projection
+ * JPA 엔티티와 달리 비밀번호 해시를 포함하지 않는다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberSnapshot {
+
+    private Long id;
+    private String memberEmail;
+    private String memberName;
+    private Role role;
+    private SocialType socialType;
+    private String socialId;
+
+    public static MemberSnapshot from(MemberEntity member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getMemberEmail(),
+                member.getMemberName(),
+                member.getRole(),
+                member.getSocialType(),
+                member.getSocialId()
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.login.domain.member.controller;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.login.domain.member.service.MemberExportService;
+import com.example.login.domain.member.service.MemberExportService.Export;
+import com.example.login.domain.member.service.MemberExportService.Format;
+import com.example.login.global.swagger.CustomExceptionDescription;
+import com.example.login.global.swagger.SwaggerResponseDescription;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+// 응답 본문을 스트리밍하므로 공통 응답 래핑(@AutoApiResponse)을 적용하지 않음
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@Tag(name = "회원 내보내기 API", description = "회원 전체 내보내기 (관리자 전용)")
+public class MemberExportApiController {
+
+    private final MemberExportService memberExportService;
+
+    @Operation(summary = "회원 내보내기",
+            description = "회원 전체를 id 순으로 NDJSON 또는 CSV로 스트리밍합니다. "
+                    + "중단된 경우 마지막으로 받은 id를 afterId로 전달해 이어받을 수 있습니다. "
+                    + "CSV에서 =, +, -, @로 시작하는 값은 스프레드시트 수식으로 실행되지 않도록 앞에 '를 붙입니다.")
+    @ApiResponse(responseCode = "200", description = "내보내기 시작")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "출력 형식 (NDJSON, CSV)")
+            @RequestParam(defaultValue = "NDJSON") Format format,
+            @Parameter(description = "이 id 이후부터 (제외)")
+            @RequestParam(defaultValue = "0") long afterId,
+            @Parameter(description = "이 id까지 (포함), 생략 시 끝까지")
+            @RequestParam(required = false) Long toId,
+            HttpServletRequest request) {
+        Export export = memberExportService.export(format, afterId, toId);
+        // 본문이 실행되지 못하고 비동기 요청이 끝나도(연결 종료, 실행 거부, 타임아웃) 허용량을 반납
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(export, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                export.release();
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members." + format.getExtension() + "\"")
+                .body(export);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.login.domain.member.controller;
+
+import java.io.IOException;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.login.domain.member.dto.response.MemberImportResponse;
+import com.example.login.domain.member.service.MemberImportService;
+import com.example.login.domain.member.service.MemberImportService.Format;
+import com.example.login.global.response.AutoApiResponse;
+import com.example.login.global.response.MemberSuccessCode;
+import com.example.login.global.response.SuccessCode;
+import com.example.login.global.swagger.CustomExceptionDescription;
+import com.example.login.global.swagger.SwaggerResponseDescription;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@AutoApiResponse
+@Tag(name = "회원 일괄 등록 API", description = "파트너 회원 일괄 등록 (관리자 전용)")
+public class MemberImportApiController {
+
+    private final MemberImportService memberImportService;
+
+    @Operation(summary = "회원 일괄 등록",
+            description = "요청 본문(CSV 또는 NDJSON)을 스트리밍으로 읽어 회원을 일괄 등록합니다. "
+                    + "CSV는 memberEmail, memberName, memberPassword 헤더가 필요하며, "
+                    + "이미 가입된 이메일과 형식 오류 행은 건너뛰고 행별 사유를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "등록 완료")
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @CustomExceptionDescription(SwaggerResponseDescription.AUTH_ERROR)
+    @SuccessCode(MemberSuccessCode.MEMBER_IMPORTED)
+    public MemberImportResponse importMembers(
+            @Parameter(description = "입력 형식 (CSV, NDJSON)")
+            @RequestParam(defaultValue = "CSV") Format format,
+            HttpServletRequest request) throws IOException {
+        // 본문을 메모리에 올리지 않도록 요청 스트림을 그대로 전달
+        return memberImportService.importMembers(format, request.getInputStream());
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.login.domain.member.controller;
 
-import java.util.List;
-
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,11 +7,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.login.domain.member.dto.request.MemberUpdateRequest;
+import com.example.login.domain.member.dto.response.MemberPageResponse;
 import com.example.login.domain.member.dto.response.MemberResponse;
+import com.example.login.domain.member.entity.Role;
 import com.example.login.domain.member.service.MemberService;
+import com.example.login.global.oauth2.entity.SocialType;
 import com.example.login.global.response.AutoApiResponse;
 import com.example.login.global.response.MemberSuccessCode;
 import com.example.login.global.response.SuccessCode;
@@ -21,6 +23,7 @@ import com.example.login.global.swagger.CustomExceptionDescription;
 import com.example.login.global.swagger.SwaggerResponseDescription;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -36,18 +39,26 @@ public class UserApiController {
 
     private final MemberService memberService;
 
-    // 전체 사용자 목록 조회
+    // 사용자 목록 조회 (커서 기반 페이지네이션)
     @Operation(
-            summary = "전체 사용자 목록 조회",
-            description = "가입된 모든 사용자의 정보를 조회합니다."
+            summary = "사용자 목록 조회",
+            description = "가입한 사용자를 최근 가입 순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다."
     )
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @CustomExceptionDescription(SwaggerResponseDescription.MEMBER_ERROR)
     @SuccessCode(MemberSuccessCode.MEMBER_VIEW)
-    public List<MemberResponse> findAll() {
-        return memberService.findAll();
+    public MemberPageResponse findAll(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "역할 필터")
+            @RequestParam(required = false) Role role,
+            @Parameter(description = "소셜 로그인 제공자 필터")
+            @RequestParam(required = false) SocialType socialType) {
+        return memberService.findPage(cursor, size, role, socialType);
     }
 
     // 특정 사용자 조회
@@ -1,5 +1,6 @@
 package com.example.login.domain.member.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -13,7 +14,9 @@ import lombok.*;
 @Schema(description = "회원 정보 수정 요청 DTO")
 public class MemberUpdateRequest {
 
-    @Schema(description = "회원 ID (경로에서 전달되며 내부 설정용)", example = "1")
+    @Schema(description = "회원 ID (경로에서 전달되며 내부 설정용, 문자열로 주고받음)", type = "string", example = "612574813263581184")
+    // 숫자/문자열 모두 입력으로 받으며(Jackson 기본 변환), 출력은 문자열
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Long id;
 
     @Schema(description = "회원 이메일", example = "updateduser@example.com", requiredMode = Schema.RequiredMode.REQUIRED)
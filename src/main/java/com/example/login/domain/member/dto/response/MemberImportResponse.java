@@ -0,0 +1,48 @@
+package com.example.login.domain.member.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "회원 일괄 등록 결과")
+public class MemberImportResponse {
+
+    @Schema(description = "처리한 데이터 행 수 (헤더 제외)", example = "100000")
+    private final long total;
+
+    @Schema(description = "등록된 회원 수", example = "99870")
+    private final long inserted;
+
+    @Schema(description = "이미 가입된 이메일로 건너뛴 행 수", example = "120")
+    private final long duplicates;
+
+    @Schema(description = "형식 오류 또는 저장 실패로 건너뛴 행 수", example = "10")
+    private final long failed;
+
+    @Schema(description = "행별 실패 사유 (최대 개수까지만 포함)")
+    private final List<RowError> errors;
+
+    @Schema(description = "실패 사유 목록이 최대 개수를 넘어 생략되었는지 여부", example = "false")
+    private final boolean errorsTruncated;
+
+    public enum Reason {
+        DUPLICATE_EMAIL,  // 이미 가입된 이메일 (파일 내 중복 포함)
+        INVALID_EMAIL,
+        MISSING_FIELD,
+        FIELD_TOO_LONG,   // 이름이 컬럼 길이(255자)를 넘음
+        INVALID_PASSWORD, // 비밀번호 해시 불가 (예: BCrypt 72바이트 초과)
+        MALFORMED_ROW,
+        DATABASE_ERROR    // 그 밖의 DB 제약 위반 등으로 저장 실패
+    }
+
+    @Schema(description = "행별 실패 사유")
+    public record RowError(
+            @Schema(description = "입력 줄 번호 (1부터)", example = "42") long line,
+            @Schema(description = "이메일", example = "hong@example.com") String memberEmail,
+            @Schema(description = "사유", example = "DUPLICATE_EMAIL") Reason reason) {
+    }
+}
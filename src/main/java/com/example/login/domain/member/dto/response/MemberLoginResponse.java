@@ -1,5 +1,7 @@
 package com.example.login.domain.member.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,7 +11,8 @@ import lombok.Getter;
 @Schema(description = "회원 로그인 응답 DTO")
 public class MemberLoginResponse {
 
-    @Schema(description = "회원 고유 ID", example = "1")
+    @Schema(description = "회원 고유 ID (TSID, JavaScript 정밀도 손실을 막기 위해 문자열로 직렬화)", type = "string", example = "612574813263581184")
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Schema(description = "회원 이메일", example = "user@example.com")
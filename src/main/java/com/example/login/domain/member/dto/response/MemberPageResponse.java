@@ -0,0 +1,22 @@
+package com.example.login.domain.member.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "회원 목록 페이지 응답 (커서 기반)")
+public class MemberPageResponse {
+
+    @Schema(description = "회원 목록 (최근 가입 순)")
+    private final List<MemberSummaryResponse> members;
+
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "MTIzNDU")
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+}
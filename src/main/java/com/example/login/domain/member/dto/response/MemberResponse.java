@@ -1,6 +1,9 @@
 package com.example.login.domain.member.dto.response;
 
+import com.example.login.domain.member.cache.MemberSnapshot;
 import com.example.login.domain.member.entity.MemberEntity;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -12,7 +15,8 @@ import lombok.*;
 @Schema(description = "회원 정보 응답 DTO")
 public class MemberResponse {
 
-    @Schema(description = "회원 고유 ID", example = "1")
+    @Schema(description = "회원 고유 ID (TSID, JavaScript 정밀도 손실을 막기 위해 문자열로 직렬화)", type = "string", example = "612574813263581184")
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Schema(description = "회원 이름", example = "홍길동")
@@ -29,4 +33,12 @@ public class MemberResponse {
                 .memberEmail(memberEntity.getMemberEmail())
                 .build();
     }
+
+    public static MemberResponse fromSnapshot(MemberSnapshot member) {
+        return MemberResponse.builder()
+                .id(member.getId())
+                .memberName(member.getMemberName())
+                .memberEmail(member.getMemberEmail())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.login.domain.member.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.oauth2.entity.SocialType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 회원 목록 항목 (JPQL 생성자 프로젝션, 엔티티를 생성하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "회원 목록 항목")
+public class MemberSummaryResponse {
+
+    @Schema(description = "회원 고유 ID (TSID, JavaScript 정밀도 손실을 막기 위해 문자열로 직렬화)", type = "string", example = "612574813263581184")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long id;
+
+    @Schema(description = "회원 이메일", example = "hong@example.com")
+    private String memberEmail;
+
+    @Schema(description = "회원 이름", example = "홍길동")
+    private String memberName;
+
+    @Schema(description = "역할", example = "USER")
+    private Role role;
+
+    @Schema(description = "소셜 로그인 제공자 (일반 회원은 null)", example = "GOOGLE")
+    private SocialType socialType;
+
+    @Schema(description = "가입 시각")
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.example.login.domain.member.entity;
 
 import com.example.login.global.entity.BaseTimeEntity;
+import com.example.login.global.id.TsidId;
 import com.example.login.global.oauth2.entity.SocialType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -13,17 +14,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "member_table", indexes = {
+// idx_role_id, idx_social_type_member는 필터 + id 내림차순 키셋 페이지네이션용 (기존 DB는 db/member-keyset-indexes.sql로 생성)
+// uk_member_email: 가입 시 중복 이메일 판정에 제약 조건 이름을 사용하므로 이름을 고정
+@Table(name = "member_table", uniqueConstraints = {
+    @UniqueConstraint(name = MemberEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "memberEmail")
+}, indexes = {
     @Index(name = "idx_member_email", columnList = "memberEmail"),
     @Index(name = "idx_social_type_id", columnList = "socialType, socialId"),
-    @Index(name = "idx_role", columnList = "role")
+    @Index(name = "idx_social_type_member", columnList = "socialType, id"),
+    @Index(name = "idx_role_id", columnList = "role, id")
 })
 public class MemberEntity extends BaseTimeEntity {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_member_email";
+
+    // 시간순 정렬 ID (INSERT 전에 id가 정해져 배치 INSERT 가능, 키셋 페이지네이션 순서는 가입 순서와 동일)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
-    @Column(unique = true)
+    @Column
     private String memberEmail;
 
     @Column
@@ -68,6 +78,11 @@ public class MemberEntity extends BaseTimeEntity {
         this.memberPassword = password;
     }
     
+    // 로그인 시 해시 알고리즘/비용 갱신 (비밀번호 자체는 동일)
+    public void changePassword(String encodedPassword) {
+        this.memberPassword = encodedPassword;
+    }
+
     public void updateSocialInfo(SocialType socialType, String socialId) {
         this.socialType = socialType;
         this.socialId = socialId;
@@ -0,0 +1,21 @@
+package com.example.login.domain.member.repository;
+
+import java.util.List;
+
+import com.example.login.domain.member.dto.response.MemberSummaryResponse;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.oauth2.entity.SocialType;
+
+/**
+ * 조건에 따라 JPQL을 조합하는 회원 조회 (MemberRepository 확장)
+ */
+public interface MemberQueryRepository {
+
+    /**
+     * id 내림차순 키셋 페이지네이션, OFFSET 없이 커서 이후만 조회하므로 페이지 위치와 무관하게 일정한 비용
+     * @param cursorId 이전 페이지 마지막 id (null이면 첫 페이지)
+     * @param role null이면 조건 없음
+     * @param socialType null이면 조건 없음
+     */
+    List<MemberSummaryResponse> findSummaries(Long cursorId, Role role, SocialType socialType, int limit);
+}
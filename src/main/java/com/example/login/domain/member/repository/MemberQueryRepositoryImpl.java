@@ -0,0 +1,49 @@
+package com.example.login.domain.member.repository;
+
+import java.util.List;
+
+import com.example.login.domain.member.dto.response.MemberSummaryResponse;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.oauth2.entity.SocialType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class MemberQueryRepositoryImpl implements MemberQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MemberSummaryResponse> findSummaries(Long cursorId, Role role, SocialType socialType, int limit) {
+        // 주어진 조건만 WHERE에 넣어 "(:p is null or ...)" 형태로 인덱스를 못 타는 일반 실행 계획을 피한다
+        StringBuilder jpql = new StringBuilder("""
+                select new com.example.login.domain.member.dto.response.MemberSummaryResponse(
+                    m.id, m.memberEmail, m.memberName, m.role, m.socialType, m.createdAt)
+                from MemberEntity m
+                where 1 = 1""");
+        if (cursorId != null) {
+            jpql.append(" and m.id < :cursorId");
+        }
+        if (role != null) {
+            jpql.append(" and m.role = :role");
+        }
+        if (socialType != null) {
+            jpql.append(" and m.socialType = :socialType");
+        }
+        jpql.append(" order by m.id desc");
+
+        TypedQuery<MemberSummaryResponse> query = entityManager.createQuery(jpql.toString(), MemberSummaryResponse.class);
+        if (cursorId != null) {
+            query.setParameter("cursorId", cursorId);
+        }
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        if (socialType != null) {
+            query.setParameter("socialType", socialType);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -9,7 +9,7 @@ import com.example.login.domain.member.entity.MemberEntity;
 import com.example.login.global.oauth2.entity.SocialType;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
+public interface MemberRepository extends JpaRepository<MemberEntity, Long>, MemberQueryRepository {
 
     Optional<MemberEntity> findByMemberEmail(String memberEmail);
 
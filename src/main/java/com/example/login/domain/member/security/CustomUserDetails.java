@@ -2,7 +2,6 @@ package com.example.login.domain.member.security;
 
 import com.example.login.domain.member.entity.MemberEntity;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,10 +10,20 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
     private final MemberEntity member;
+    // 로그인 실패 누적으로 일시 잠금된 경우 false
+    private final boolean accountNonLocked;
+
+    public CustomUserDetails(MemberEntity member) {
+        this(member, true);
+    }
+
+    public CustomUserDetails(MemberEntity member, boolean accountNonLocked) {
+        this.member = member;
+        this.accountNonLocked = accountNonLocked;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -38,7 +47,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return accountNonLocked;
     }
 
     @Override
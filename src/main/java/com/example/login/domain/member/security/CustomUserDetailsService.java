@@ -1,18 +1,26 @@
 package com.example.login.domain.member.security;
 
+import com.example.login.domain.auth.service.LoginAttemptService;
+import com.example.login.domain.member.cache.MemberCache;
 import com.example.login.domain.member.entity.MemberEntity;
 import com.example.login.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final LoginAttemptService loginAttemptService;
 
 
     @Override
@@ -20,6 +28,34 @@ public class CustomUserDetailsService implements UserDetailsService {
         MemberEntity member = memberRepository.findByMemberEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 회원을 찾을 수 없습니다: " + username));
 
-        return new CustomUserDetails(member);
+        // 잠긴 계정은 비밀번호 검증 전에 LockedException으로 거부된다
+        return new CustomUserDetails(member, !loginAttemptService.isLocked(username));
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰의 회원 ID(CLAIM_ID)로 기본키 조회
+     * 회원 캐시를 거치며, SecurityContext에는 엔티티 대신 경량 Principal을 보관한다
+     */
+    public UserDetails loadUserById(Long memberId) throws UsernameNotFoundException {
+        return memberCache.findById(memberId)
+                .map(MemberPrincipal::from)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 ID의 회원을 찾을 수 없습니다: " + memberId));
+    }
+
+    /**
+     * 로그인 성공 후 저장된 해시가 현재 알고리즘/비용보다 약하면 DaoAuthenticationProvider가 호출
+     * 비밀번호 자체는 바뀌지 않으므로 토큰 폐기나 캐시 무효화는 하지 않는다
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        MemberEntity member = memberRepository.findByMemberEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 회원을 찾을 수 없습니다: " + user.getUsername()));
+
+        member.changePassword(newPassword);
+        memberRepository.save(member);
+        log.info("비밀번호 해시 갱신 - 회원 ID: {}", member.getId());
+
+        return new CustomUserDetails(member, user.isAccountNonLocked());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.login.domain.member.security;
+
+import com.example.login.domain.member.cache.MemberSnapshot;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.jwt.VerifiedToken;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SecurityContext에 보관되는 경량 불변 인증 주체
+ * JPA 엔티티 대신 서명된 토큰 클레임(또는 캐시된 회원 스냅샷)의 식별 정보만 가진다
+ */
+@Getter
+public final class MemberPrincipal implements UserDetails {
+
+    // 역할별 권한 목록은 불변이므로 요청마다 새로 만들지 않고 공유
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.getKey())));
+        }
+    }
+
+    private final String memberId;
+    private final String email;
+    private final Role role;
+
+    private MemberPrincipal(String memberId, String email, Role role) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
+    }
+
+    public static MemberPrincipal from(VerifiedToken token) {
+        if (token.getId() == null || token.getRole() == null) {
+            throw new IllegalArgumentException("토큰에 회원 식별 정보가 없습니다");
+        }
+        return new MemberPrincipal(token.getId(), token.getEmail(), token.getRole());
+    }
+
+    public static MemberPrincipal from(MemberSnapshot member) {
+        return new MemberPrincipal(String.valueOf(member.getId()), member.getMemberEmail(), member.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.login.domain.member.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.response.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 전체 내보내기 (NDJSON/CSV 스트리밍)
+ * JPA를 거치지 않고 JDBC 커서(fetchSize)로 읽은 행을 바로 응답에 쓰므로 행 수와 무관하게 힙 사용량이 일정하다
+ * id 구간(chunk) 단위로 짧은 읽기 전용 트랜잭션에서 구간을 메모리로 읽은 뒤 트랜잭션을 닫고 응답에 쓴다
+ * 느린 클라이언트 때문에 응답 쓰기가 막혀도 커넥션은 점유하지 않으며, 메모리는 구간 하나(chunk-size 행)로 제한된다
+ * 동시 내보내기 수를 제한해 다른 요청이 사용할 커넥션을 남겨 둔다
+ */
+@Slf4j
+@Service
+public class MemberExportService {
+
+    private static final String CHUNK_SQL = """
+            select id, member_email, member_name, role, social_type, created_at
+            from member_table
+            where id > ? and id <= ?
+            order by id
+            limit ?""";
+    private static final String[] COLUMNS =
+            {"id", "memberEmail", "memberName", "role", "socialType", "createdAt"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final int chunkSize;
+
+    public MemberExportService(DataSource dataSource,
+                               ObjectMapper objectMapper,
+                               @Value("${member.export.fetch-size:1000}") int fetchSize,
+                               @Value("${member.export.chunk-size:5000}") int chunkSize,
+                               @Value("${member.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // PostgreSQL 드라이버는 autocommit이 꺼진 트랜잭션 안에서만 fetchSize 단위로 커서를 사용한다
+        this.readOnlyTransaction = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+        this.chunkSize = chunkSize;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+    }
+
+    /**
+     * @param afterId 이 id 이후부터 (이어받기 시 마지막으로 받은 id)
+     * @param toId    이 id까지 포함, null이면 끝까지
+     */
+    public Export export(Format format, long afterId, Long toId) {
+        // 응답을 만들기 전에 허용량을 확보해야 포화 시 스트리밍 없이 바로 거절할 수 있다
+        if (!permits.tryAcquire()) {
+            throw new BaseException(ErrorCode.EXPORT_BUSY);
+        }
+        return new Export(format, afterId, toId != null ? toId : Long.MAX_VALUE);
+    }
+
+    /**
+     * 허용량을 쥐고 있는 내보내기 본문
+     * 본문이 끝나면 반납하며, 비동기 작업이 실행되지 못한 경우(연결 종료, 실행 거부)를 위해
+     * 호출 측은 비동기 요청 완료 시점에도 release()를 호출해야 한다 (여러 번 호출해도 한 번만 반납)
+     */
+    public final class Export implements StreamingResponseBody {
+
+        private final Format format;
+        private final long afterId;
+        private final long upperId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Export(Format format, long afterId, long upperId) {
+            this.format = format;
+            this.afterId = afterId;
+            this.upperId = upperId;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try {
+                write(format, out, afterId, upperId);
+            } finally {
+                release();
+            }
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private void write(Format format, OutputStream out, long afterId, long upperId) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rowWriter.begin();
+
+        long cursor = afterId;
+        long total = 0;
+        while (true) {
+            List<ExportRow> chunk = readChunk(cursor, upperId);
+            try {
+                for (ExportRow row : chunk) {
+                    rowWriter.row(row);
+                }
+                // 구간마다 클라이언트로 내보내 응답 버퍼가 쌓이지 않도록 한다
+                rowWriter.flush();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등
+                log.info("회원 내보내기 중단 - 마지막으로 읽은 구간 이후 id: {}", cursor);
+                throw e;
+            }
+            total += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1).id();
+        }
+        rowWriter.end();
+        log.info("회원 내보내기 완료 - 형식: {}, 구간: ({}, {}], 행 수: {}", format, afterId, upperId, total);
+    }
+
+    // 트랜잭션(커넥션 점유)은 구간을 읽는 동안만 유지
+    private List<ExportRow> readChunk(long afterId, long upperId) {
+        List<ExportRow> rows = new ArrayList<>(chunkSize);
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(CHUNK_SQL,
+                rs -> {
+                    rows.add(ExportRow.of(rs));
+                }, afterId, upperId, chunkSize));
+        return rows;
+    }
+
+    private record ExportRow(long id, String email, String name, String role, String socialType, String createdAt) {
+
+        static ExportRow of(ResultSet rs) throws SQLException {
+            LocalDateTime createdAt = rs.getObject(6, LocalDateTime.class);
+            return new ExportRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                    createdAt != null ? createdAt.toString() : null);
+        }
+    }
+
+    private interface RowWriter {
+
+        default void begin() throws IOException {
+        }
+
+        void row(ExportRow row) throws IOException;
+
+        void flush() throws IOException;
+
+        default void end() throws IOException {
+            flush();
+        }
+    }
+
+    // 한 줄에 JSON 객체 하나
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        @Override
+        public void row(ExportRow row) throws IOException {
+            generator.writeStartObject();
+            // TSID는 2^53을 넘으므로 JavaScript 등에서 정밀도가 손실되지 않도록 문자열로 기록
+            generator.writeStringField(COLUMNS[0], Long.toString(row.id()));
+            generator.writeStringField(COLUMNS[1], row.email());
+            generator.writeStringField(COLUMNS[2], row.name());
+            generator.writeStringField(COLUMNS[3], row.role());
+            generator.writeStringField(COLUMNS[4], row.socialType());
+            generator.writeStringField(COLUMNS[5], row.createdAt());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+            writer.flush();
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+            writer.flush();
+        }
+    }
+
+    static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void row(ExportRow row) throws IOException {
+            writer.write(Long.toString(row.id()));
+            for (String value : new String[] {row.email(), row.name(), row.role(), row.socialType(), row.createdAt()}) {
+                writer.write(',');
+                writeField(value);
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다 (RFC 4180)
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            value = escapeFormula(value);
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        // 스프레드시트가 수식으로 해석하는 값(=, +, -, @, 탭, CR로 시작)은 앞에 '를 붙여 문자열로 취급되게 한다 (CSV 인젝션)
+        static String escapeFormula(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            return switch (value.charAt(0)) {
+                case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+                default -> value;
+            };
+        }
+    }
+}
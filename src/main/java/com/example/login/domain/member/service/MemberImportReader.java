@@ -0,0 +1,186 @@
+package com.example.login.domain.member.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.login.domain.member.dto.response.MemberImportResponse.Reason;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 업로드 본문을 한 줄씩 읽어 회원 행으로 변환 (전체를 메모리에 올리지 않음)
+ * CSV는 첫 줄이 헤더(memberEmail, memberName, memberPassword, 순서 무관)이며 따옴표로 감싼 필드를 지원한다 (필드 내 줄바꿈 제외)
+ * NDJSON은 한 줄에 {"memberEmail", "memberName", "memberPassword"} 객체 하나
+ */
+abstract class MemberImportReader {
+
+    private static final String EMAIL = "memberEmail";
+    private static final String NAME = "memberName";
+    private static final String PASSWORD = "memberPassword";
+    // member_table 문자열 컬럼 길이 (varchar(255))
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    protected final BufferedReader reader;
+    protected long line;
+
+    private MemberImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static MemberImportReader csv(BufferedReader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    static MemberImportReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new Ndjson(reader, objectMapper);
+    }
+
+    /**
+     * @return 다음 행, 입력이 끝나면 null (빈 줄은 건너뜀)
+     */
+    ImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+        return parse(text);
+    }
+
+    protected abstract ImportRow parse(String text);
+
+    protected ImportRow row(String email, String name, String password) {
+        if (isBlank(email) || isBlank(name) || isBlank(password)) {
+            return ImportRow.rejected(line, email, Reason.MISSING_FIELD);
+        }
+        // 가입 API와 같이 대소문자는 그대로 저장
+        String normalized = email.trim();
+        if (!isEmail(normalized)) {
+            return ImportRow.rejected(line, email, Reason.INVALID_EMAIL);
+        }
+        String trimmedName = name.trim();
+        if (trimmedName.length() > MAX_COLUMN_LENGTH) {
+            return ImportRow.rejected(line, normalized, Reason.FIELD_TOO_LONG);
+        }
+        return new ImportRow(line, normalized, trimmedName, password, null);
+    }
+
+    // local@domain.tld 형태만 확인 (가입 API의 @Email 검증과 같은 수준)
+    private static boolean isEmail(String email) {
+        int at = email.indexOf('@');
+        return at > 0 && at == email.lastIndexOf('@') && email.indexOf('.', at) > at + 1
+                && !email.endsWith(".") && email.length() <= MAX_COLUMN_LENGTH && email.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * @param rejected null이면 등록 대상
+     */
+    record ImportRow(long line, String email, String name, String password, Reason rejected) {
+
+        static ImportRow rejected(long line, String email, Reason reason) {
+            return new ImportRow(line, email, null, null, reason);
+        }
+    }
+
+    private static final class Csv extends MemberImportReader {
+
+        private final int emailIndex;
+        private final int nameIndex;
+        private final int passwordIndex;
+
+        private Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            String header = reader.readLine();
+            line++;
+            List<String> columns = header != null ? split(header) : List.of();
+            this.emailIndex = columns.indexOf(EMAIL);
+            this.nameIndex = columns.indexOf(NAME);
+            this.passwordIndex = columns.indexOf(PASSWORD);
+            if (emailIndex < 0 || nameIndex < 0 || passwordIndex < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 memberEmail, memberName, memberPassword가 필요합니다");
+            }
+        }
+
+        @Override
+        protected ImportRow parse(String text) {
+            List<String> fields = split(text);
+            if (fields == null) {
+                return ImportRow.rejected(line, null, Reason.MALFORMED_ROW);
+            }
+            return row(field(fields, emailIndex), field(fields, nameIndex), field(fields, passwordIndex));
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        // RFC 4180 필드 분리, 따옴표가 닫히지 않으면 null
+        private static List<String> split(String text) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else if (c != '\r') {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    private static final class Ndjson extends MemberImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected ImportRow parse(String text) {
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (node == null || !node.isObject()) {
+                    return ImportRow.rejected(line, null, Reason.MALFORMED_ROW);
+                }
+                return row(text(node, EMAIL), text(node, NAME), text(node, PASSWORD));
+            } catch (IOException e) {
+                return ImportRow.rejected(line, null, Reason.MALFORMED_ROW);
+            }
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value != null && value.isTextual() ? value.asText() : null;
+        }
+    }
+}
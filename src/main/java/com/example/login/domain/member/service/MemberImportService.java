@@ -0,0 +1,319 @@
+package com.example.login.domain.member.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.dto.response.MemberImportResponse;
+import com.example.login.domain.member.dto.response.MemberImportResponse.Reason;
+import com.example.login.domain.member.dto.response.MemberImportResponse.RowError;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.domain.member.service.MemberImportReader.ImportRow;
+import com.example.login.global.config.properties.PasswordHashingProperties;
+import com.example.login.global.config.properties.SecurityProperties;
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.id.TsidGenerator;
+import com.example.login.global.response.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 일괄 등록 (CSV/NDJSON 스트리밍 업로드)
+ * 입력을 batch-size 단위로 읽어 비밀번호를 병렬로 해시한 뒤, JDBC 배치 INSERT 한 번으로 저장한다
+ * 중복 이메일은 사전 조회 없이 유니크 인덱스에서 판정하고(ON CONFLICT DO NOTHING), 행별 결과로 보고한다
+ * 그 밖의 이유로 배치 저장이 실패하면 해당 배치만 행 단위로 다시 저장해 실패한 행을 보고하고 계속 진행한다
+ * 메모리는 배치 하나와 최대 max-errors개의 실패 사유로 제한된다
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    // JPA를 거치지 않고 id(TSID)를 직접 지정해 배치 INSERT
+    private static final String INSERT_SQL = """
+            insert into member_table (id, member_email, member_name, member_password, role, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (member_email) do nothing""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SecurityProperties securityProperties;
+    private final ObjectMapper objectMapper;
+    private final EmailBloomFilter emailBloomFilter;
+    private final ExecutorService hashExecutor;
+    private final Semaphore permits = new Semaphore(1);
+    private final int batchSize;
+    private final int maxErrors;
+
+    public MemberImportService(DataSource dataSource,
+                               PasswordEncoder passwordEncoder,
+                               SecurityProperties securityProperties,
+                               PasswordHashingProperties passwordHashingProperties,
+                               ObjectMapper objectMapper,
+                               EmailBloomFilter emailBloomFilter,
+                               @Value("${member.import.batch-size:1000}") int batchSize,
+                               @Value("${member.import.hash-parallelism:0}") int hashParallelism,
+                               @Value("${member.import.max-errors:1000}") int maxErrors) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        this.passwordEncoder = passwordEncoder;
+        this.securityProperties = securityProperties;
+        this.objectMapper = objectMapper;
+        this.emailBloomFilter = emailBloomFilter;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+
+        // 실제 해시는 PasswordHashingEngine 풀에서 실행되며, 여기서는 동시에 요청하는 해시 수만 제한한다
+        // 일괄 등록 중에도 로그인/가입 해시가 대기열에서 기다리지 않도록 엔진 스레드 일부(기본 절반, 최대 전체 - 1)만 사용
+        int engineThreads = passwordHashingProperties.getThreads() > 0
+                ? passwordHashingProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        int threads = hashParallelism > 0
+                ? Math.min(hashParallelism, Math.max(1, engineThreads - 1))
+                : Math.max(1, engineThreads / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "member-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * 업로드 본문을 끝까지 읽어 등록 (동시에 하나의 일괄 등록만 허용)
+     */
+    public MemberImportResponse importMembers(Format format, InputStream body) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new BaseException(ErrorCode.IMPORT_BUSY);
+        }
+        try {
+            return run(format, new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024));
+        } catch (IllegalArgumentException e) {
+            log.warn("회원 일괄 등록 입력 오류: {}", e.getMessage());
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    private MemberImportResponse run(Format format, BufferedReader reader) throws IOException {
+        MemberImportReader rows = format == Format.CSV
+                ? MemberImportReader.csv(reader)
+                : MemberImportReader.ndjson(reader, objectMapper);
+        Result result = new Result(maxErrors);
+        String role = Role.valueOf(securityProperties.getDefaultRole()).name();
+        long start = System.nanoTime();
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        ImportRow row;
+        while ((row = rows.next()) != null) {
+            result.total++;
+            if (row.rejected() != null) {
+                result.reject(row, row.rejected());
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                insert(batch, role, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch, role, result);
+        }
+
+        long elapsedMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+        log.info("회원 일괄 등록 완료 - 전체: {}, 등록: {}, 중복: {}, 실패: {}, {}ms ({}행/초)",
+                result.total, result.inserted, result.duplicates, result.failed, elapsedMillis,
+                result.total * 1000L / elapsedMillis);
+        return result.toResponse();
+    }
+
+    private void insert(List<ImportRow> batch, String role, Result result) {
+        List<HashedRow> hashed = new ArrayList<>(batch.size());
+        for (HashedRow h : hashAll(batch)) {
+            if (h.hash() == null) {
+                result.reject(h.row(), Reason.INVALID_PASSWORD);
+            } else {
+                hashed.add(h);
+            }
+        }
+        if (hashed.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // INSERT 전에 배치 전체를 이메일 필터에 추가 (중복 행은 이미 가입된 이메일이므로 영향 없음)
+        emailBloomFilter.addAll(hashed.stream().map(h -> h.row().email()).toList());
+
+        // 배치 하나를 한 트랜잭션으로 저장, 행별 영향 행 수(0 = 충돌)로 중복을 판정
+        // (reWriteBatchedInserts를 켜면 행별 결과를 받을 수 없으므로 사용하지 않는다)
+        int[][] counts;
+        try {
+            counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, hashed, hashed.size(),
+                    (ps, h) -> bind(ps, h, role, now)));
+        } catch (DataAccessResourceFailureException e) {
+            // DB 연결 자체가 안 되면 행 단위로 재시도해도 의미가 없으므로 중단
+            throw e;
+        } catch (DataAccessException e) {
+            // 배치 트랜잭션은 롤백되었으므로, 어느 행이 실패했는지 가리기 위해 행 단위로 다시 저장
+            log.warn("회원 일괄 등록 배치 저장 실패, 행 단위로 재시도: {}", e.getMostSpecificCause().getMessage());
+            insertEach(hashed, role, now, result);
+            return;
+        }
+
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                tally(hashed.get(index).row(), count, result);
+                index++;
+            }
+        }
+    }
+
+    private void insertEach(List<HashedRow> hashed, String role, Timestamp now, Result result) {
+        for (HashedRow h : hashed) {
+            try {
+                Integer count = transactionTemplate.execute(status -> jdbcTemplate.update(INSERT_SQL,
+                        ps -> bind(ps, h, role, now)));
+                tally(h.row(), count != null ? count : 0, result);
+            } catch (DataAccessResourceFailureException e) {
+                throw e;
+            } catch (DataAccessException e) {
+                log.debug("회원 일괄 등록 행 저장 실패 - {}행: {}", h.row().line(), e.getMostSpecificCause().getMessage());
+                result.reject(h.row(), Reason.DATABASE_ERROR);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, HashedRow h, String role, Timestamp now) throws SQLException {
+        ps.setLong(1, TsidGenerator.next());
+        ps.setString(2, h.row().email());
+        ps.setString(3, h.row().name());
+        ps.setString(4, h.hash());
+        ps.setString(5, role);
+        ps.setTimestamp(6, now);
+        ps.setTimestamp(7, now);
+    }
+
+    private static void tally(ImportRow row, int count, Result result) {
+        if (count == 0) {
+            result.reject(row, Reason.DUPLICATE_EMAIL);
+        } else {
+            result.inserted++;
+        }
+    }
+
+    // 배치 내 비밀번호를 병렬로 해시 (순서 유지), 해시할 수 없는 비밀번호는 hash가 null
+    private List<HashedRow> hashAll(List<ImportRow> batch) {
+        List<CompletableFuture<HashedRow>> futures = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> new HashedRow(row, hashWithRetry(row.password())), hashExecutor));
+        }
+        List<HashedRow> hashed = new ArrayList<>(batch.size());
+        for (CompletableFuture<HashedRow> future : futures) {
+            hashed.add(future.join());
+        }
+        return hashed;
+    }
+
+    // 로그인/가입 요청으로 해시 풀이 포화되면 잠시 양보 후 재시도 (일괄 등록이 사용자 요청보다 우선하지 않도록)
+    private String hashWithRetry(String password) {
+        while (true) {
+            try {
+                return passwordEncoder.encode(password);
+            } catch (IllegalArgumentException e) {
+                // 인코더가 받아들이지 않는 비밀번호 (예: BCrypt 72바이트 초과), 입력 오류로 보고 해당 행만 실패 처리
+                return null;
+            } catch (BaseException e) {
+                if (e.getErrorCode() != ErrorCode.PASSWORD_HASHING_BUSY) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private record HashedRow(ImportRow row, String hash) {
+    }
+
+    private static final class Result {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long inserted;
+        private long duplicates;
+        private long failed;
+        private boolean truncated;
+
+        private Result(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(ImportRow row, Reason reason) {
+            if (reason == Reason.DUPLICATE_EMAIL) {
+                duplicates++;
+            } else {
+                failed++;
+            }
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row.line(), row.email(), reason));
+            } else {
+                truncated = true;
+            }
+        }
+
+        private MemberImportResponse toResponse() {
+            return MemberImportResponse.builder()
+                    .total(total)
+                    .inserted(inserted)
+                    .duplicates(duplicates)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(truncated)
+                    .build();
+        }
+    }
+}
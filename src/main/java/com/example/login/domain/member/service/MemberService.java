@@ -1,17 +1,26 @@
 package com.example.login.domain.member.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.login.domain.auth.service.RevocationEpochService;
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.cache.MemberCache;
 import com.example.login.domain.member.dto.request.MemberSaveRequest;
 import com.example.login.domain.member.dto.request.MemberUpdateRequest;
+import com.example.login.domain.member.dto.response.MemberPageResponse;
 import com.example.login.domain.member.dto.response.MemberResponse;
+import com.example.login.domain.member.dto.response.MemberSummaryResponse;
 import com.example.login.domain.member.entity.MemberEntity;
 import com.example.login.domain.member.entity.Role;
 import com.example.login.domain.member.repository.MemberRepository;
+import com.example.login.global.oauth2.entity.SocialType;
 import com.example.login.global.config.properties.SecurityProperties;
 import com.example.login.global.exception.BaseException;
 import com.example.login.global.response.ErrorCode;
@@ -24,18 +33,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 기본적으로 읽기 전용
 public class MemberService {
+
+    private static final int MAX_PAGE_SIZE = 100;
     private final MemberRepository memberRepository;
+    private final MemberWriter memberWriter;
     private final PasswordEncoder passwordEncoder;
     private final SecurityProperties securityProperties;
+    private final MemberCache memberCache;
+    private final RevocationEpochService revocationEpochService;
+    private final EmailBloomFilter emailBloomFilter;
 
 
-    @Transactional // 쓰기 작업
+    // 해시 연산 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 처리하고, 쓰기만 MemberWriter에서 수행
+    // 중복 이메일은 사전 조회 없이 INSERT 한 번으로 유니크 인덱스에서 판정 (동시 가입도 DUPLICATE_EMAIL로 일관되게 처리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void save(MemberSaveRequest req) {
-        boolean exists = memberRepository.findByMemberEmail(req.getMemberEmail()).isPresent();
-        if (exists) {
-            throw new BaseException(ErrorCode.DUPLICATE_EMAIL);
-        }
-
         String encodedPassword = passwordEncoder.encode(req.getMemberPassword());
 
         log.info("[회원가입] 이메일: {}, 이름: {}", req.getMemberEmail(), req.getMemberName());
@@ -50,52 +62,85 @@ public class MemberService {
                 defaultRole
         );
 
-        memberRepository.save(memberEntity);
+        memberWriter.create(memberEntity);
     }
 
 
-    public List<MemberResponse> findAll() {
-        return memberRepository.findAll()
-                .stream()
-                .map(MemberResponse::fromEntity)
-                .toList();
+    /**
+     * 관리자 회원 목록 (최근 가입 순, 커서 기반)
+     * @param cursor 이전 응답의 nextCursor, null이면 첫 페이지
+     */
+    public MemberPageResponse findPage(String cursor, int size, Role role, SocialType socialType) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 조회해 다음 페이지 존재 여부 판단
+        List<MemberSummaryResponse> rows =
+                memberRepository.findSummaries(decodeCursor(cursor), role, socialType, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberSummaryResponse> members = hasNext ? rows.subList(0, pageSize) : rows;
+        return MemberPageResponse.builder()
+                .members(members)
+                .nextCursor(hasNext ? encodeCursor(members.get(pageSize - 1).getId()) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     public MemberResponse findById(Long id) {
-        return memberRepository.findById(id)
-                .map(MemberResponse::fromEntity)
+        return memberCache.findById(id)
+                .map(MemberResponse::fromSnapshot)
                 .orElseThrow(() -> memberNotFound());
     }
 
     public MemberResponse findMemberForUpdate(String myEmail) {
-        return memberRepository.findByMemberEmail(myEmail)
-                .map(MemberResponse::fromEntity)
+        return memberCache.findByEmail(myEmail)
+                .map(MemberResponse::fromSnapshot)
                 .orElseThrow(() -> memberNotFound());
     }
 
-    @Transactional // 쓰기 작업
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void update(MemberUpdateRequest req) {
-        MemberEntity entity = memberRepository.findById(req.getId())
-                .orElseThrow(() -> memberNotFound());
-
         String encodedPassword = passwordEncoder.encode(req.getMemberPassword());
-        
-        entity.updateMemberInfo(req.getMemberName(), encodedPassword);
-        memberRepository.save(entity);
+
+        MemberEntity entity = memberWriter.update(req.getId(), req.getMemberName(), encodedPassword);
+        // 비밀번호 변경 시 기존에 발급된 토큰은 모두 무효화 (커밋 이후)
+        revocationEpochService.revokeMember(String.valueOf(entity.getId()));
     }
 
-    @Transactional // 쓰기 작업
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteById(Long id) {
-        if (!memberRepository.existsById(id)) {
-            throw memberNotFound();
-        }
-        memberRepository.deleteById(id);
+        memberWriter.delete(id);
+        revocationEpochService.revokeMember(String.valueOf(id));
     }
 
+    // 필터가 "확실히 없음"이면 DB 조회 없이 응답, 있을 수도 있을 때만 유니크 인덱스 조회
     public boolean isEmailAvailable(String memberEmail) {
-        return !memberRepository.existsByMemberEmail(memberEmail);
+        if (!emailBloomFilter.mightContain(memberEmail)) {
+            return true;
+        }
+        boolean exists = memberRepository.existsByMemberEmail(memberEmail);
+        if (!exists) {
+            emailBloomFilter.recordFalsePositive();
+        }
+        return !exists;
     }
     
+    // 커서는 클라이언트가 해석하지 않도록 마지막 id를 Base64URL로 감싼 값
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
     private BaseException memberNotFound() {
         return new BaseException(ErrorCode.MEMBER_NOT_FOUND);
     }
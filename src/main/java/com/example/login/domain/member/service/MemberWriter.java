@@ -0,0 +1,75 @@
+package com.example.login.domain.member.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.cache.MemberCache;
+import com.example.login.domain.member.entity.MemberEntity;
+import com.example.login.domain.member.repository.MemberRepository;
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.response.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 쓰기 트랜잭션
+ * 비밀번호 해시 등 오래 걸리는 작업은 호출 전에 끝내고, 여기서는 DB 쓰기만 짧은 트랜잭션으로 수행한다
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberWriter {
+
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final EmailBloomFilter emailBloomFilter;
+
+    /**
+     * 이메일 중복은 memberEmail 유니크 제약으로 판정 (INSERT 한 번)
+     * 기본키(TSID) 충돌 등 다른 제약 위반은 중복 이메일로 응답하지 않고 그대로 던진다
+     */
+    @Transactional
+    public MemberEntity create(MemberEntity member) {
+        // INSERT 전에 추가 (실패해도 오탐이 하나 늘 뿐, 커밋 후 "사용 가능"으로 잘못 응답하는 구간은 없음)
+        emailBloomFilter.add(member.getMemberEmail());
+        try {
+            return memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailUniqueViolation(e)) {
+                throw new BaseException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+    }
+
+    @Transactional
+    public MemberEntity update(Long id, String name, String encodedPassword) {
+        MemberEntity entity = memberRepository.findById(id)
+                .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
+
+        entity.updateMemberInfo(name, encodedPassword);
+        memberRepository.save(entity);
+        memberCache.evict(entity);
+        return entity;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        MemberEntity entity = memberRepository.findById(id)
+                .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
+        memberRepository.delete(entity);
+        memberCache.evict(entity);
+        emailBloomFilter.markDeleted();
+    }
+
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return MemberEntity.EMAIL_UNIQUE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+}
@@ -2,17 +2,25 @@ package com.example.login.global.config;
 
 import com.example.login.domain.auth.service.AuthenticationService;
 import com.example.login.domain.auth.service.BlacklistService;
+import com.example.login.domain.auth.service.LoginAttemptService;
+import com.example.login.domain.auth.service.RevocationEpochService;
 import com.example.login.domain.member.security.CustomUserDetailsService;
+import com.example.login.global.config.properties.PasswordHashingProperties;
+import com.example.login.global.config.properties.SecurityProperties;
+import com.example.login.global.jwt.AccessTokenCache;
 import com.example.login.global.jwt.JWTUtil;
 import com.example.login.global.jwt.JwtAuthenticationFilter;
 import com.example.login.global.jwt.LoginFilter;
+import com.example.login.global.password.PasswordEncoderFactory;
+import com.example.login.global.password.PasswordHashingEngine;
+import com.example.login.global.ratelimit.HeavyHitterLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
@@ -20,24 +28,33 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class JwtSecurityConfig {
 
     private final JWTUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
     private final ObjectMapper objectMapper;
     private final BlacklistService blacklistService;
+    private final RevocationEpochService revocationEpochService;
     private final CustomUserDetailsService customUserDetailsService;
     private final AuthenticationService authenticationService;
+    private final SecurityProperties securityProperties;
+    private final HeavyHitterLimiter heavyHitterLimiter;
+    private final LoginAttemptService loginAttemptService;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
 
+    // 기동 시 보정한 비용의 위임 인코더를 전용 풀에서 실행 (destroyMethod는 shutdown 추론)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           MeterRegistry meterRegistry) {
+        return new PasswordHashingEngine(PasswordEncoderFactory.create(passwordHashingProperties),
+                passwordHashingProperties, meterRegistry);
     }
 
     @Bean
     public LoginFilter loginFilter(AuthenticationManager authManager) {
-        LoginFilter loginFilter = new LoginFilter(authManager, objectMapper, authenticationService);
+        LoginFilter loginFilter = new LoginFilter(authManager, objectMapper, authenticationService,
+                heavyHitterLimiter, loginAttemptService);
         loginFilter.setFilterProcessesUrl("/api/auth/login");
         loginFilter.setAuthenticationManager(authManager);
         return loginFilter;
@@ -45,6 +62,7 @@ public class JwtSecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, blacklistService, customUserDetailsService);
+        return new JwtAuthenticationFilter(jwtUtil, accessTokenCache, blacklistService,
+                revocationEpochService, customUserDetailsService, securityProperties.getPrincipalMode());
     }
 }
\ No newline at end of file
@@ -1,16 +1,42 @@
 package com.example.login.global.config;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.example.login.global.jwt.AccessTokenCache;
+import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.ratelimit.ClientIpResolver;
+import com.example.login.global.ratelimit.HeavyHitterLimiter;
+import com.example.login.global.ratelimit.RateLimitEnforcer;
+import com.example.login.global.ratelimit.RateLimitFilter;
+import com.example.login.global.ratelimit.RateLimitPolicyRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 @Configuration
+@RequiredArgsConstructor
 public class RateLimitConfig {
-    
+
+    // Spring Security 필터 체인(기본 order -100)보다 먼저 실행
+    private static final int RATE_LIMIT_FILTER_ORDER =
+            org.springframework.boot.autoconfigure.security.SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+    private final RateLimitPolicyRegistry policyRegistry;
+    private final RateLimitEnforcer enforcer;
+    private final HeavyHitterLimiter heavyHitterLimiter;
+    private final AccessTokenCache accessTokenCache;
+    private final JWTUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final RateLimitProperties rateLimitProperties;
+
     @Bean
-    public ConcurrentHashMap<String, RateLimiter> rateLimiterMap() {
-        return new ConcurrentHashMap<>();
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter() {
+        RateLimitFilter filter = new RateLimitFilter(policyRegistry, enforcer, heavyHitterLimiter,
+                accessTokenCache, jwtUtil, objectMapper, new ClientIpResolver(rateLimitProperties.getTrustedProxies()));
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        registration.setOrder(RATE_LIMIT_FILTER_ORDER);
+        return registration;
     }
-}
\ No newline at end of file
+}
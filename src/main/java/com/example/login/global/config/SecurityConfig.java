@@ -5,6 +5,7 @@ import com.example.login.global.config.CorsConfig;
 import com.example.login.global.config.OAuth2SecurityConfig;
 import com.example.login.global.jwt.JwtAuthenticationFilter;
 import com.example.login.global.jwt.LoginFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +41,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답 완료 후의 비동기 디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(securityProperties.getPublicUrlsArray()).permitAll()
                         .requestMatchers(securityProperties.getAdminUrlsArray()).hasRole("ADMIN")
                         .anyRequest().authenticated())
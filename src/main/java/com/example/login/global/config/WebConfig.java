@@ -1,21 +0,0 @@
-package com.example.login.global.config;
-
-import com.example.login.global.interceptor.RateLimitInterceptor;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-@Configuration
-@RequiredArgsConstructor
-public class WebConfig implements WebMvcConfigurer {
-    
-    private final RateLimitInterceptor rateLimitInterceptor;
-    
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(rateLimitInterceptor)
-                .addPathPatterns("/member/login", "/oauth2/**")
-                .order(1);
-    }
-}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.login.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.member")
+public class MemberCacheProperties {
+
+    private long l1MaxSize = 10_000L;
+    private Duration l1Ttl = Duration.ofMinutes(5);
+    private Duration l2Ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,55 @@
+package com.example.login.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+    // 해시 전용 스레드 수, 0이면 CPU 코어 수
+    private int threads = 0;
+    // 대기열 크기, 가득 차면 즉시 거절
+    private int queueCapacity = 64;
+    // 대기열에서 기다리는 최대 시간 (실행 시간 제외), 초과 시 작업을 실행하지 않고 거절
+    private Duration maxWait = Duration.ofSeconds(2);
+    // 새로 저장하는 해시의 알고리즘, 기존 해시는 알고리즘과 무관하게 검증 가능
+    private Algorithm algorithm = Algorithm.BCRYPT;
+    // 기동 시 이 시간에 가장 가깝도록 해시 비용을 보정, 0이면 보정 없이 최소 비용 사용
+    private Duration targetLatency = Duration.ofMillis(100);
+    private Bcrypt bcrypt = new Bcrypt();
+    private Argon2 argon2 = new Argon2();
+
+    public enum Algorithm {
+        BCRYPT, ARGON2
+    }
+
+    @Getter
+    @Setter
+    public static class Bcrypt {
+
+        // 보정 결과와 무관하게 적용되는 비용 범위 (2^strength 라운드)
+        private int minStrength = 10;
+        private int maxStrength = 14;
+    }
+
+    @Getter
+    @Setter
+    public static class Argon2 {
+
+        // 메모리 비용(KiB), 보정 대상이 아닌 고정값
+        private int memoryKib = 19_456;
+        private int parallelism = 1;
+        // 보정으로 조정되는 반복 횟수 범위
+        private int minIterations = 2;
+        private int maxIterations = 10;
+        private int saltLength = 16;
+        private int hashLength = 32;
+    }
+}
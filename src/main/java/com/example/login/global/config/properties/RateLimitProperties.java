@@ -0,0 +1,99 @@
+package com.example.login.global.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    // 동시에 보관하는 클라이언트별 limiter 최대 개수 (초과 시 자주 쓰이지 않는 항목부터 제거)
+    private long maxKeys = 100_000L;
+    // 마지막 요청 이후 이 시간 동안 사용되지 않은 limiter는 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Mode mode = Mode.LOCAL;
+    private Distributed distributed = new Distributed();
+    private Sketch sketch = new Sketch();
+    // 엔드포인트별 정책, 앞에 선언된 정책이 아니라 더 구체적인 경로가 우선한다
+    private List<Policy> policies = new ArrayList<>();
+    // 정책을 덮어쓸 외부 YAML 파일 경로 (변경 시 재시작 없이 반영)
+    private String policyFile;
+    // X-Forwarded-For / X-Real-IP를 신뢰할 프록시 (IP 또는 CIDR), 비어 있으면 헤더를 무시하고 접속 IP 사용
+    private List<String> trustedProxies = new ArrayList<>();
+
+    public enum Mode {
+        LOCAL,       // 노드별 독립 한도
+        DISTRIBUTED  // Redis 토큰 버킷으로 클러스터 전체 한도 공유
+    }
+
+    public enum FailureMode {
+        OPEN,   // Redis 장애/지연 시 노드별 로컬 한도로 대체
+        CLOSED  // Redis 장애/지연 시 요청 거부
+    }
+
+    public enum KeyType {
+        IP,       // 클라이언트 IP 기준
+        MEMBER,   // 로그인 회원 기준 (Access Token이 없으면 IP 기준)
+        IP_PATH   // 클라이언트 IP + 요청 경로 기준
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+        // "/api/auth/login", "/api/users/*", "/oauth2/**" 형식 ('*'는 한 세그먼트, '**'는 0개 이상의 세그먼트)
+        private String pattern;
+        private KeyType key = KeyType.IP;
+        // period 동안 허용하는 요청 수
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+        // 순간적으로 허용하는 최대 요청 수, 0이면 limit과 같음
+        private int burst;
+    }
+
+    @Getter
+    @Setter
+    public static class Distributed {
+
+        // Redis 응답을 기다리는 최대 시간, 초과 시 failureMode에 따라 처리
+        private Duration latencyBudget = Duration.ofMillis(50);
+        private FailureMode failureMode = FailureMode.OPEN;
+        // 장애 감지 후 Redis 호출을 생략하는 시간
+        private Duration cooldown = Duration.ofSeconds(5);
+        // 한 번에 임차할 허용량 = 버킷 용량 x tolerance (최소 1), 공유 한도의 허용 오차
+        private double tolerance = 0.1;
+        // 임차한 허용량의 유효 시간, 지나면 남은 허용량은 버린다
+        private Duration leaseTtl = Duration.ofSeconds(1);
+        // Redis 호출 전용 스레드 수
+        private int threads = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Sketch {
+
+        // 켜면 임계치를 넘은 클라이언트에만 실제 버킷을 적용
+        private boolean enabled = false;
+        private Duration window = Duration.ofMinutes(1);
+        // 윈도우를 나누는 슬롯 수 (슬라이딩 정밀도)
+        private int slots = 6;
+        private int depth = 4;
+        private int width = 4096;
+        // 윈도우 내 추정 요청 수가 이 값 이상이면 과다 요청 클라이언트로 간주
+        // 버킷 용량(burst)이 이 값보다 작은 정책(로그인 등)은 한도가 느슨해지지 않도록 클라이언트 키에 임계치와 무관하게 버킷 적용
+        private int threshold = 30;
+        // /24(/48) 대역 버킷 한도 = 정책 한도 x 이 값 (대역 추정 빈도가 임계치를 넘은 경우에만 적용)
+        private int subnetMultiplier = 16;
+        // 운영자에게 노출할 상위 클라이언트 수
+        private int topK = 100;
+    }
+}
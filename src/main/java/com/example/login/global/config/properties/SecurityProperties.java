@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 @Getter
@@ -17,6 +18,8 @@ public class SecurityProperties {
     private List<String> adminUrls;
     private String defaultRole;
     private long corsMaxAge = 3600L;
+    private PrincipalMode principalMode = PrincipalMode.STATELESS;
+    private LoginAttempt loginAttempt = new LoginAttempt();
     
     public String[] getPublicUrlsArray() {
         return publicUrls != null ? publicUrls.toArray(new String[0]) : new String[0];
@@ -25,4 +28,29 @@ public class SecurityProperties {
     public String[] getAdminUrlsArray() {
         return adminUrls != null ? adminUrls.toArray(new String[0]) : new String[0];
     }
-}
\ No newline at end of file
+
+    /**
+     * 인증된 요청의 Principal 생성 방식
+     * STATELESS: 검증된 토큰 클레임으로 생성 (DB 조회 없음)
+     * DATABASE: 토큰의 회원 ID로 DB에서 회원을 조회하여 생성
+     */
+    public enum PrincipalMode {
+        STATELESS, DATABASE
+    }
+
+    /**
+     * 계정별 로그인 실패 백오프
+     * freeAttempts회 실패 후부터 baseLock, 2배씩 증가하여 최대 maxLock 동안 잠금
+     */
+    @Getter
+    @Setter
+    public static class LoginAttempt {
+
+        private boolean enabled = true;
+        private int freeAttempts = 5;
+        private Duration baseLock = Duration.ofSeconds(1);
+        private Duration maxLock = Duration.ofMinutes(15);
+        // 마지막 실패 이후 실패 횟수를 보관하는 시간
+        private Duration failureWindow = Duration.ofMinutes(15);
+    }
+}
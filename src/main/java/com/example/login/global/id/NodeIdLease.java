@@ -0,0 +1,129 @@
+package com.example.login.global.id;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TSID 노드 ID 할당
+ * id.node-id가 지정되면 그 값을 쓰고, 아니면 Redis에서 비어 있는 노드 ID("idgen:node:{n}")를 TTL로 임대해 주기적으로 갱신한다
+ * ID는 마지막으로 임대가 확인된 시점 + TTL까지만 발급하며(fencing), 그 뒤에는 다른 인스턴스가 같은 노드 ID를 임대할 수 있다
+ * 임대하지 못했거나 잃은 동안에는 ID를 발급하지 않고, 갱신 주기마다 다시 임대를 시도한다
+ */
+@Slf4j
+@Component
+public class NodeIdLease {
+
+    private static final String KEY_PREFIX = "idgen:node:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int fixedNodeId;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    private final RedisScript<Long> renewScript =
+            RedisScript.of(new ClassPathResource("scripts/node-lease-renew.lua"), Long.class);
+    private final RedisScript<Long> releaseScript =
+            RedisScript.of(new ClassPathResource("scripts/node-lease-release.lua"), Long.class);
+
+    // 현재 임대 중인 노드 ID, 임대하지 않았으면 -1
+    private volatile int leasedNodeId = -1;
+
+    public NodeIdLease(RedisTemplate<String, String> redisTemplate,
+                       @Value("${id.node-id:-1}") int fixedNodeId,
+                       @Value("${id.node-lease-ttl-millis:30000}") long leaseTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.fixedNodeId = fixedNodeId;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+    }
+
+    // 첫 INSERT 전에 노드 ID가 정해지도록 빈 초기화 시점에 할당
+    @PostConstruct
+    public void assign() {
+        if (fixedNodeId >= 0) {
+            TsidGenerator.initialize(fixedNodeId);
+            log.info("TSID 노드 ID 고정 할당: {}", fixedNodeId);
+            return;
+        }
+        acquire();
+    }
+
+    @Scheduled(fixedDelayString = "${id.node-lease-renew-millis:10000}")
+    public void renew() {
+        if (fixedNodeId >= 0) {
+            return;
+        }
+        int nodeId = leasedNodeId;
+        if (nodeId < 0) {
+            acquire();
+            return;
+        }
+        // 요청 전 시각 기준으로 유효 시각을 잡아, Redis에서 실제 만료되는 시각보다 늦어지지 않도록 한다
+        long requestedAt = System.currentTimeMillis();
+        try {
+            Long renewed = redisTemplate.execute(renewScript, List.of(key(nodeId)),
+                    owner, String.valueOf(leaseTtl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                TsidGenerator.extendLease(nodeId, requestedAt + leaseTtl.toMillis());
+                return;
+            }
+            log.error("TSID 노드 ID {} 임대를 잃어 다시 임대합니다", nodeId);
+            TsidGenerator.invalidate();
+            leasedNodeId = -1;
+            acquire();
+        } catch (RuntimeException e) {
+            // 갱신하지 못해도 마지막 확인 시점 + TTL까지는 발급 가능, 그 이후에는 TsidGenerator가 발급을 거부
+            log.warn("TSID 노드 ID 임대 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        int nodeId = leasedNodeId;
+        if (nodeId < 0) {
+            return;
+        }
+        TsidGenerator.invalidate();
+        try {
+            redisTemplate.execute(releaseScript, List.of(key(nodeId)), owner);
+        } catch (RuntimeException e) {
+            log.warn("TSID 노드 ID 임대 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    private void acquire() {
+        int start = ThreadLocalRandom.current().nextInt(TsidGenerator.MAX_NODE_ID + 1);
+        try {
+            for (int i = 0; i <= TsidGenerator.MAX_NODE_ID; i++) {
+                int nodeId = (start + i) & TsidGenerator.MAX_NODE_ID;
+                long requestedAt = System.currentTimeMillis();
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key(nodeId), owner, leaseTtl))) {
+                    TsidGenerator.initialize(nodeId, requestedAt + leaseTtl.toMillis());
+                    leasedNodeId = nodeId;
+                    log.info("TSID 노드 ID 임대: {}", nodeId);
+                    return;
+                }
+            }
+            log.error("사용 가능한 TSID 노드 ID가 없습니다 (최대 {}개), 다음 갱신 주기에 다시 시도합니다",
+                    TsidGenerator.MAX_NODE_ID + 1);
+        } catch (RuntimeException e) {
+            // Redis를 쓸 수 없으면 중복 ID 위험이 있으므로 임의 노드 ID를 쓰지 않고 발급을 보류 (필요 시 id.node-id로 고정)
+            log.error("TSID 노드 ID 임대 실패, 다음 갱신 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    private static String key(int nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.login.global.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 정렬 가능한 64비트 ID (TSID/Snowflake 방식)
+ * [부호 1비트 0][기준 시각 이후 ms 41비트][노드 ID 10비트][시퀀스 12비트]
+ * 앞자리가 시각이므로 생성 순서대로 커지며(k-sortable) B-tree 삽입이 대부분 인덱스 끝에서 일어난다
+ * 노드별로 CAS 한 번으로 발급하며(락 없음), 같은 ms에 4096개를 넘거나 시계가 뒤로 가면 다음 ms를 앞당겨 사용한다
+ */
+public final class TsidGenerator {
+
+    // 2024-01-01T00:00:00Z, 약 69년 사용 가능
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile TsidGenerator instance;
+
+    private final int nodeId;
+    private final long nodeBits;
+    // 노드 ID 임대가 확인된 유효 시각, 지나면 같은 노드 ID를 다른 인스턴스가 임대했을 수 있으므로 발급 중단
+    private volatile long leaseValidUntil;
+    // (기준 시각 이후 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    private TsidGenerator(int nodeId, long leaseValidUntil) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.leaseValidUntil = leaseValidUntil;
+    }
+
+    /**
+     * 고정 노드 ID 지정 (만료 없음)
+     */
+    public static void initialize(int nodeId) {
+        instance = new TsidGenerator(nodeId, Long.MAX_VALUE);
+    }
+
+    /**
+     * 임대한 노드 ID 지정 (임대가 바뀌면 다시 호출, 노드 ID가 다르므로 이전 ID와 겹치지 않는다)
+     * @param leaseValidUntil 이 시각(epoch ms)까지만 ID 발급
+     */
+    public static void initialize(int nodeId, long leaseValidUntil) {
+        instance = new TsidGenerator(nodeId, leaseValidUntil);
+    }
+
+    /**
+     * 임대 갱신이 확인되면 유효 시각 연장 (그 사이 다른 노드 ID로 바뀌었다면 무시)
+     */
+    public static void extendLease(int nodeId, long leaseValidUntil) {
+        TsidGenerator generator = instance;
+        if (generator != null && generator.nodeId == nodeId) {
+            generator.leaseValidUntil = Math.max(generator.leaseValidUntil, leaseValidUntil);
+        }
+    }
+
+    /**
+     * 임대를 잃었을 때 즉시 발급 중단
+     */
+    public static void invalidate() {
+        instance = null;
+    }
+
+    public static long next() {
+        TsidGenerator generator = instance;
+        if (generator == null) {
+            throw new IllegalStateException("노드 ID가 할당되지 않아 ID를 생성할 수 없습니다");
+        }
+        if (System.currentTimeMillis() >= generator.leaseValidUntil) {
+            throw new IllegalStateException("노드 ID 임대를 확인할 수 없어 ID를 생성할 수 없습니다");
+        }
+        return generator.generate();
+    }
+
+    long generate() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            long current = state.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                long sequence = (current & SEQUENCE_MASK) + 1;
+                next = sequence > SEQUENCE_MASK
+                        ? (lastMillis + 1) << SEQUENCE_BITS
+                        : (lastMillis << SEQUENCE_BITS) | sequence;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.login.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증을 마친 Access Token 캐시
+ * 토큰 다이제스트를 키로 사용하며, 각 항목은 토큰의 exp 시점에 만료된다
+ * 캐시 적중 시 HMAC 검증과 Base64/JSON 디코딩을 건너뛴다
+ */
+@Slf4j
+@Component
+public class AccessTokenCache {
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public AccessTokenCache(JWTUtil jwtUtil,
+                            MeterRegistry meterRegistry,
+                            @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등의 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accessTokenCache");
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 서명 검증 후 유효한 Access Token만 캐시에 저장
+     */
+    public Optional<VerifiedToken> verify(String accessToken) {
+        VerifiedToken verified = cache.get(TokenDigest.of(accessToken), digest ->
+                jwtUtil.verify(accessToken)
+                        .filter(VerifiedToken::isAccessToken)
+                        .orElse(null));
+        return Optional.ofNullable(verified);
+    }
+
+    // 블랙리스트 등록 등으로 더 이상 신뢰할 수 없는 토큰을 즉시 제거
+    public void invalidate(String accessToken) {
+        cache.invalidate(TokenDigest.of(accessToken));
+        log.debug("Access Token 캐시 제거");
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.getRemainingMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
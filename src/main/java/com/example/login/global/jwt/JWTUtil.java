@@ -11,11 +11,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -25,10 +32,16 @@ public class JWTUtil {
     public static final String CLAIM_EMAIL = "email";
     public static final String CLAIM_ROLE = "role";
     public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_SESSION_ID = "sid";
+    // 표준 iat는 초 단위이므로, 폐기 기준 시각과 비교할 ms 단위 발급 시각을 따로 담는다
+    public static final String CLAIM_ISSUED_AT_MILLIS = "iat_ms";
     public static final String TOKEN_TYPE_ACCESS = "access";
     public static final String TOKEN_TYPE_REFRESH = "refresh";
     public static final String COOKIE_NAME_REFRESH = "refresh";
 
+    // 요청 단위로 검증 결과를 보관하는 request attribute 이름
+    private static final String VERIFIED_TOKENS_ATTRIBUTE = JWTUtil.class.getName() + ".VERIFIED_TOKENS";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -43,19 +56,30 @@ public class JWTUtil {
 
     private SecretKey secretKey;
 
+    // JwtParser는 불변이며 thread-safe 하므로 한 번만 생성하여 재사용
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     // Access Token 생성
     public String createAccessToken(String id, Role role, String email) {
-        return createJWT(id, role, email, TOKEN_TYPE_ACCESS, accessTokenExpiration);
+        return createJWT(id, role, email, TOKEN_TYPE_ACCESS, null, accessTokenExpiration);
+    }
+
+    // Refresh Token 생성, 기기(세션)마다 고유한 세션 ID를 가진다
+    public String createRefreshToken(String id, Role role, String email, String sessionId) {
+        return createJWT(id, role, email, TOKEN_TYPE_REFRESH, sessionId, refreshTokenExpiration);
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(String id, Role role, String email) {
-        return createJWT(id, role, email, TOKEN_TYPE_REFRESH, refreshTokenExpiration);
+    // 새 로그인 세션 ID 발급
+    public static String newSessionId() {
+        return newRandomId();
     }
 
     // Refresh Token 무효화
@@ -69,25 +93,60 @@ public class JWTUtil {
     }
 
     // JWT 생성 내부 메서드
-    private String createJWT(String id, Role role, String email, String type, long expireMs) {
+    private String createJWT(String id, Role role, String email, String type, String sessionId, long expireMs) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .id(newRandomId())
                 .claim(CLAIM_TYPE, type)
+                .claim(CLAIM_SESSION_ID, sessionId)
                 .claim(CLAIM_ID, id)
                 .claim(CLAIM_ROLE, role.name())
                 .claim(CLAIM_EMAIL, email)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expireMs))
+                .claim(CLAIM_ISSUED_AT_MILLIS, now)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expireMs))
                 .signWith(secretKey)
                 .compact();
     }
 
-    private Optional<Claims> safelyParseClaims(String token) {
+    // 토큰 식별자(jti)/세션 ID: 128bit 난수를 Base64URL로 인코딩한 22자 문자열
+    private static String newRandomId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 토큰을 한 번만 검증하여 클레임 값 객체로 반환
+     * 요청 처리 중이라면 결과를 request attribute에 보관하여 필터, 서비스가 같은 검증 결과를 공유한다
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return safelyParse(token);
+        }
+
+        Map<String, Optional<VerifiedToken>> verifiedTokens = (Map<String, Optional<VerifiedToken>>)
+                attributes.getAttribute(VERIFIED_TOKENS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verifiedTokens == null) {
+            verifiedTokens = new HashMap<>(4);
+            attributes.setAttribute(VERIFIED_TOKENS_ATTRIBUTE, verifiedTokens, RequestAttributes.SCOPE_REQUEST);
+        }
+        return verifiedTokens.computeIfAbsent(token, this::safelyParse);
+    }
+
+    private Optional<VerifiedToken> safelyParse(String token) {
         try {
-            return Optional.of(Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload());
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return Optional.of(VerifiedToken.from(claims));
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("JWT validation failed");
             log.debug("JWT parsing error details: {}", e.getMessage());
@@ -97,40 +156,33 @@ public class JWTUtil {
 
     // 토큰 파싱: ID
     public Optional<String> getId(String token) {
-        return safelyParseClaims(token)
-                .map(claims -> claims.get(CLAIM_ID, String.class));
+        return verify(token).map(VerifiedToken::getId);
     }
 
     // 토큰 파싱: 이메일
     public Optional<String> getEmail(String token) {
-        return safelyParseClaims(token)
-                .map(claims -> claims.get(CLAIM_EMAIL, String.class));
+        return verify(token).map(VerifiedToken::getEmail);
     }
 
     // 토큰 파싱: 권한
     public Optional<Role> getRole(String token) {
-        return safelyParseClaims(token)
-                .map(claims -> claims.get(CLAIM_ROLE, String.class))
-                .map(Role::valueOf);
+        return verify(token).map(VerifiedToken::getRole);
     }
 
     // 토큰 파싱: 타입 구분(access/refresh)
     public Optional<String> getTokenType(String token) {
-        return safelyParseClaims(token)
-                .map(claims -> claims.get(CLAIM_TYPE, String.class));
+        return verify(token).map(VerifiedToken::getType);
     }
 
     // 토큰 파싱: 만료 시간
     public Optional<Long> getExpiration(String token) {
-        return safelyParseClaims(token)
-                .map(Claims::getExpiration)
-                .map(exp -> exp.getTime() - System.currentTimeMillis());
+        return verify(token).map(VerifiedToken::getRemainingMillis);
     }
 
     // 토큰 검증 (만료 포함)
     public boolean validateToken(String token, String expectedType) {
-        return safelyParseClaims(token)
-                .map(claims -> expectedType.equals(claims.get(CLAIM_TYPE, String.class)))
+        return verify(token)
+                .map(verified -> expectedType.equals(verified.getType()))
                 .orElse(false);
     }
 
@@ -1,7 +1,10 @@
 package com.example.login.global.jwt;
 
 import com.example.login.domain.auth.service.BlacklistService;
+import com.example.login.domain.auth.service.RevocationEpochService;
 import com.example.login.domain.member.security.CustomUserDetailsService;
+import com.example.login.domain.member.security.MemberPrincipal;
+import com.example.login.global.config.properties.SecurityProperties.PrincipalMode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,32 +18,35 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
     private final BlacklistService blacklistService;
+    private final RevocationEpochService revocationEpochService;
     private final CustomUserDetailsService userDetailsService;
+    private final PrincipalMode principalMode;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         jwtUtil.extractAccessToken(request)
-                .filter(token -> validateAccessToken(token, response))
-                .flatMap(jwtUtil::getEmail)
-                .ifPresent(email -> {
+                .flatMap(token -> validateAccessToken(token, response))
+                .ifPresent(verified -> {
                     try {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                        UserDetails userDetails = resolvePrincipal(verified);
                         Authentication authentication = new UsernamePasswordAuthenticationToken(
                                 userDetails,
                                 null,
                                 userDetails.getAuthorities()
                         );
                         SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.info("SecurityContext에 인증 객체 저장 완료: {}", email);
+                        log.info("SecurityContext에 인증 객체 저장 완료: {}", verified.getEmail());
                     } catch (Exception e) {
                         log.warn("UserDetails 로딩 실패: {}", e.getMessage());
                         sendUnauthorized(response, "회원 인증 실패");
@@ -50,20 +56,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean validateAccessToken(String token, HttpServletResponse response) {
-        if (!jwtUtil.validateToken(token, "access")) {
+    private UserDetails resolvePrincipal(VerifiedToken verified) {
+        if (principalMode == PrincipalMode.DATABASE) {
+            return userDetailsService.loadUserById(Long.valueOf(verified.getId()));
+        }
+        return MemberPrincipal.from(verified);
+    }
+
+    private Optional<VerifiedToken> validateAccessToken(String token, HttpServletResponse response) {
+        Optional<VerifiedToken> verified = accessTokenCache.verify(token);
+        if (verified.isEmpty()) {
             log.warn("토큰 검증 실패");
             sendUnauthorized(response, "유효하지 않은 토큰입니다.");
-            return false;
+            return Optional.empty();
         }
 
-        if (blacklistService.isBlacklisted(token)) {
+        if (blacklistService.isBlacklisted(token, verified.get())) {
             log.warn("블랙리스트에 등록된 토큰입니다.");
             sendUnauthorized(response, "TOKEN_BLACKLISTED");
-            return false;
+            return Optional.empty();
+        }
+
+        if (revocationEpochService.isRevoked(verified.get())) {
+            log.warn("일괄 폐기된 토큰입니다.");
+            sendUnauthorized(response, "TOKEN_REVOKED");
+            return Optional.empty();
         }
 
-        return true;
+        return verified;
     }
 
     private void sendUnauthorized(HttpServletResponse response, String message) {
@@ -3,6 +3,7 @@ package com.example.login.global.jwt;
 import com.example.login.domain.auth.service.RefreshTokenService;
 import com.example.login.domain.member.entity.MemberEntity;
 import com.example.login.domain.member.entity.Role;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,12 +19,14 @@ public class JwtTokenService {
     private final JWTUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
 
-    public void issueTokens(HttpServletResponse response, MemberEntity member) {
+    // 로그인마다 새 세션을 만들어 기존 기기의 세션은 유지한다
+    public void issueTokens(HttpServletRequest request, HttpServletResponse response, MemberEntity member) {
         String memberId = member.getId().toString();
         String accessToken = jwtUtil.createAccessToken(memberId, member.getRole(), member.getMemberEmail());
-        String refreshToken = jwtUtil.createRefreshToken(memberId, member.getRole(), member.getMemberEmail());
+        String refreshToken = jwtUtil.createRefreshToken(memberId, member.getRole(), member.getMemberEmail(),
+                JWTUtil.newSessionId());
 
-        refreshTokenService.saveToken(memberId, refreshToken);
+        refreshTokenService.saveToken(memberId, refreshToken, request.getHeader(HttpHeaders.USER_AGENT));
 
         setAccessToken(response, accessToken);
         setRefreshCookie(response, refreshToken);
@@ -37,16 +40,10 @@ public class JwtTokenService {
         log.info("Access 토큰 재발급 완료 - Member: {}", email);
     }
 
-    public void reissueAllTokens(HttpServletResponse response, String memberId, Role role, String email) {
-        String accessToken = jwtUtil.createAccessToken(memberId, role, email);
-        String refreshToken = jwtUtil.createRefreshToken(memberId, role, email);
-
-        refreshTokenService.saveToken(memberId, refreshToken);
-
+    // 이미 발급·저장된 토큰 쌍을 응답에 기록
+    public void sendTokens(HttpServletResponse response, String accessToken, String refreshToken) {
         setAccessToken(response, accessToken);
         setRefreshCookie(response, refreshToken);
-
-        log.info("Access / Refresh 토큰 모두 재발급 완료 - Member: {}", email);
     }
 
     public void expireRefreshCookie(HttpServletResponse response) {
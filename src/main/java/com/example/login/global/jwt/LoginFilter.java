@@ -1,17 +1,24 @@
 package com.example.login.global.jwt;
 
 import com.example.login.global.dto.CommonApiResponse;
+import com.example.login.global.exception.BaseException;
 import com.example.login.global.response.ErrorCode;
+import com.example.login.global.response.ErrorType;
 import com.example.login.domain.member.dto.request.MemberLoginRequest;
 import com.example.login.domain.member.security.CustomUserDetails;
 import com.example.login.domain.auth.service.AuthenticationService;
+import com.example.login.domain.auth.service.LoginAttemptService;
+import com.example.login.global.ratelimit.HeavyHitterLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -20,24 +27,68 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import java.io.IOException;
 
 @Slf4j
-@RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+
     private final AuthenticationManager authenticationManager;
     private final ObjectMapper objectMapper;
     private final AuthenticationService authenticationService;
+    private final HeavyHitterLimiter heavyHitterLimiter;
+    private final LoginAttemptService loginAttemptService;
+    // 잠긴 계정에 대한 거부 응답은 반복되므로 미리 직렬화
+    private final byte[] accountLockedBody;
 
+    public LoginFilter(AuthenticationManager authenticationManager,
+                       ObjectMapper objectMapper,
+                       AuthenticationService authenticationService,
+                       HeavyHitterLimiter heavyHitterLimiter,
+                       LoginAttemptService loginAttemptService) {
+        this.authenticationManager = authenticationManager;
+        this.objectMapper = objectMapper;
+        this.authenticationService = authenticationService;
+        this.heavyHitterLimiter = heavyHitterLimiter;
+        this.loginAttemptService = loginAttemptService;
+        try {
+            this.accountLockedBody = objectMapper.writeValueAsBytes(CommonApiResponse.fail(ErrorCode.ACCOUNT_LOCKED));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("계정 잠금 응답 직렬화 실패", e);
+        }
+    }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) {
         try {
             var loginReq = objectMapper.readValue(request.getInputStream(), MemberLoginRequest.class);
+            String email = loginReq.getMemberEmail();
+
+            // 여러 IP로 분산된 같은 계정 대상 시도 제한, null 반환 시 인증을 진행하지 않고 응답 종료
+            if (!heavyHitterLimiter.tryAcquireLoginTarget(request, email)) {
+                log.warn("로그인 대상 계정 요청 제한 - URI: {}", request.getRequestURI());
+                sendError(response, ErrorCode.TOO_MANY_REQUESTS);
+                return null;
+            }
+
+            // 잠긴 계정은 비밀번호 해시 연산 없이 거부
+            long lockMillis = loginAttemptService.remainingLockMillis(email);
+            if (lockMillis > 0) {
+                sendAccountLocked(response, lockMillis);
+                return null;
+            }
 
-            var authToken = new UsernamePasswordAuthenticationToken(
-                    loginReq.getMemberEmail(), loginReq.getMemberPassword()
-            );
+            var authToken = new UsernamePasswordAuthenticationToken(email, loginReq.getMemberPassword());
 
-            return authenticationManager.authenticate(authToken);
+            try {
+                return authenticationManager.authenticate(authToken);
+            } catch (BadCredentialsException e) {
+                // 존재하지 않는 이메일도 같은 예외로 전달되므로 함께 집계된다
+                loginAttemptService.recordFailure(email);
+                throw e;
+            } catch (BaseException e) {
+                // 비밀번호 해시 풀 포화 등 인증 실패가 아닌 거절은 실패 횟수에 포함하지 않음
+                sendError(response, e.getErrorCode());
+                return null;
+            }
         } catch (IOException e) {
             throw new RuntimeException("로그인 요청 처리 실패", e);
         }
@@ -49,7 +100,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        authenticationService.issueTokensOnLogin(response, customUserDetails.getMember());
+        loginAttemptService.recordSuccess(customUserDetails.getUsername());
+        authenticationService.issueTokensOnLogin(request, response, customUserDetails.getMember());
 
         log.info("로그인 성공 - 사용자: {}", customUserDetails.getUsername());
 
@@ -57,10 +109,28 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
-        response.setStatus(ErrorCode.LOGIN_FAIL.getStatus());
-        response.setContentType("application/json; charset=UTF-8");
+        if (failed instanceof LockedException) {
+            sendAccountLocked(response, 0L);
+            return;
+        }
+        sendError(response, ErrorCode.LOGIN_FAIL);
+    }
+
+    private void sendAccountLocked(HttpServletResponse response, long lockMillis) throws IOException {
+        response.setStatus(ErrorCode.ACCOUNT_LOCKED.getStatus());
+        response.setContentType(JSON_CONTENT_TYPE);
+        if (lockMillis > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((lockMillis + 999) / 1000));
+        }
+        response.setContentLength(accountLockedBody.length);
+        response.getOutputStream().write(accountLockedBody);
+    }
+
+    private void sendError(HttpServletResponse response, ErrorType errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(JSON_CONTENT_TYPE);
 
-        String json = objectMapper.writeValueAsString(CommonApiResponse.fail(ErrorCode.LOGIN_FAIL));
+        String json = objectMapper.writeValueAsString(CommonApiResponse.fail(errorCode));
         response.getWriter().write(json);
     }
 }
@@ -0,0 +1,30 @@
+package com.example.login.global.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 사용할 고정 길이 다이제스트(SHA-256) 유틸리티
+ */
+public final class TokenDigest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    // Base64URL(패딩 없음) 문자열 다이제스트, 43자 고정
+    public static String of(String token) {
+        return ENCODER.encodeToString(sha256(token));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.login.global.jwt;
+
+import com.example.login.domain.member.entity.Role;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임을 담는 불변 값 객체
+ * 한 번 검증한 결과를 재사용하여 클레임마다 토큰을 다시 파싱하지 않도록 한다
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final String tokenId; // jti, 도입 이전에 발급된 토큰은 null
+    private final String id;
+    private final String email;
+    private final Role role;
+    private final String type;
+    private final String sessionId; // sid, Refresh Token에만 존재
+    private final long expiresAt; // epoch millis
+    private final long issuedAt;  // epoch millis
+
+    private VerifiedToken(String tokenId, String id, String email, Role role, String type, String sessionId,
+                          long expiresAt, long issuedAt) {
+        this.tokenId = tokenId;
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.type = type;
+        this.sessionId = sessionId;
+        this.expiresAt = expiresAt;
+        this.issuedAt = issuedAt;
+    }
+
+    static VerifiedToken from(Claims claims) {
+        String role = claims.get(JWTUtil.CLAIM_ROLE, String.class);
+        Date expiration = claims.getExpiration();
+        Date issuedAt = claims.getIssuedAt();
+        // iat_ms 도입 이전 토큰은 초 단위 iat 사용 (내림이므로 폐기 판정이 느슨해지지 않음)
+        Long issuedAtMillis = claims.get(JWTUtil.CLAIM_ISSUED_AT_MILLIS, Long.class);
+
+        return new VerifiedToken(
+                claims.getId(),
+                claims.get(JWTUtil.CLAIM_ID, String.class),
+                claims.get(JWTUtil.CLAIM_EMAIL, String.class),
+                role != null ? Role.valueOf(role) : null,
+                claims.get(JWTUtil.CLAIM_TYPE, String.class),
+                claims.get(JWTUtil.CLAIM_SESSION_ID, String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                issuedAtMillis != null ? issuedAtMillis : (issuedAt != null ? issuedAt.getTime() : 0L)
+        );
+    }
+
+    public boolean isAccessToken() {
+        return JWTUtil.TOKEN_TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JWTUtil.TOKEN_TYPE_REFRESH.equals(type);
+    }
+
+    // 만료까지 남은 시간(ms)
+    public long getRemainingMillis() {
+        return expiresAt - System.currentTimeMillis();
+    }
+}
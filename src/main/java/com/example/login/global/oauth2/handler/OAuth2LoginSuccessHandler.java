@@ -2,6 +2,7 @@ package com.example.login.global.oauth2.handler;
 
 import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -37,9 +38,9 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
             CustomOAuth2User oAuth2User = (CustomOAuth2User) authentication.getPrincipal();
 
             if (oAuth2User.getRole() == Role.GUEST) {
-                handleGuestLogin(response, oAuth2User);
+                handleGuestLogin(request, response, oAuth2User);
             } else {
-                handleNormalLogin(response, oAuth2User);
+                handleNormalLogin(request, response, oAuth2User);
             }
 
         } catch (Exception e) {
@@ -48,7 +49,8 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         }
     }
 
-    private void handleGuestLogin(HttpServletResponse response, CustomOAuth2User oAuth2User) throws IOException {
+    private void handleGuestLogin(HttpServletRequest request, HttpServletResponse response,
+                                  CustomOAuth2User oAuth2User) throws IOException {
         log.info("GUEST 사용자 소셜 로그인 처리: email={}, socialType={}", 
                 oAuth2User.getEmail(), oAuth2User.getSocialType());
                 
@@ -62,13 +64,15 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         );
         
         oAuth2TokenService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
-        oAuth2TokenService.updateRefreshToken(oAuth2User.getEmail(), refreshToken);
+        oAuth2TokenService.saveRefreshToken(oAuth2User.getMemberId(), refreshToken,
+                request.getHeader(HttpHeaders.USER_AGENT));
         
         // GUEST 사용자는 추가 정보 입력 페이지로 리다이렉트
         response.sendRedirect("/oauth2/sign-up");
     }
 
-    private void handleNormalLogin(HttpServletResponse response, CustomOAuth2User oAuth2User) throws IOException {
+    private void handleNormalLogin(HttpServletRequest request, HttpServletResponse response,
+                                   CustomOAuth2User oAuth2User) throws IOException {
         log.info("일반 사용자 소셜 로그인 성공: email={}, socialType={}", 
                 oAuth2User.getEmail(), oAuth2User.getSocialType());
                 
@@ -82,7 +86,8 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
         );
 
         oAuth2TokenService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
-        oAuth2TokenService.updateRefreshToken(oAuth2User.getEmail(), refreshToken);
+        oAuth2TokenService.saveRefreshToken(oAuth2User.getMemberId(), refreshToken,
+                request.getHeader(HttpHeaders.USER_AGENT));
 
         // 응답 데이터 생성
         OAuthLoginResponse oAuthLoginResponse = OAuthLoginResponse.builder()
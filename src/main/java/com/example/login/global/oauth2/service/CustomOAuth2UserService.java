@@ -4,6 +4,9 @@ import com.example.login.global.oauth2.user.CustomOAuth2User;
 import com.example.login.global.oauth2.dto.OAuthAttributes;
 import com.example.login.global.oauth2.entity.SocialType;
 import com.example.login.global.oauth2.strategy.SocialLoginStrategyManager;
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.cache.MemberCache;
+import com.example.login.domain.member.cache.MemberSnapshot;
 import com.example.login.domain.member.entity.MemberEntity;
 import com.example.login.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,8 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private final MemberRepository userRepository;
     private final SocialLoginStrategyManager strategyManager;
+    private final MemberCache memberCache;
+    private final EmailBloomFilter emailBloomFilter;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -44,7 +49,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 registrationId, userNameAttributeName, attributes);
 
         SocialType socialType = strategyManager.getSocialType(registrationId);
-        MemberEntity user = findOrCreateUser(extractAttributes, socialType);
+        MemberSnapshot user = findOrCreateUser(extractAttributes, socialType);
 
         return new CustomOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey())),
@@ -58,17 +63,18 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     }
 
 
-    private MemberEntity findOrCreateUser(OAuthAttributes attributes, SocialType socialType) {
+    private MemberSnapshot findOrCreateUser(OAuthAttributes attributes, SocialType socialType) {
         String socialId = attributes.getOauth2UserInfo().getId();
         String email = attributes.getOauth2UserInfo().getEmail();
         
-        // 1. 먼저 같은 소셜 타입과 소셜 ID로 찾기
-        return userRepository.findBySocialTypeAndSocialId(socialType, socialId)
+        // 1. 먼저 같은 소셜 타입과 소셜 ID로 찾기 (회원 캐시 경유)
+        return memberCache.findBySocial(socialType, socialId)
                 .orElseGet(() -> {
                     // 2. 소셜 ID로 찾지 못한 경우, 이메일로 기존 사용자 확인
-                    return userRepository.findByMemberEmail(email)
+                    MemberEntity user = userRepository.findByMemberEmail(email)
                             .map(existingUser -> linkSocialAccount(existingUser, socialType, socialId))
                             .orElseGet(() -> saveUser(attributes, socialType));
+                    return MemberSnapshot.from(user);
                 });
     }
     
@@ -87,11 +93,14 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         
         // 소셜 정보 업데이트
         existingUser.updateSocialInfo(socialType, socialId);
-        return userRepository.save(existingUser);
+        MemberEntity linked = userRepository.save(existingUser);
+        memberCache.evict(linked);
+        return linked;
     }
 
     private MemberEntity saveUser(OAuthAttributes attributes, SocialType socialType) {
         MemberEntity user = attributes.toEntity(socialType);
+        emailBloomFilter.add(user.getMemberEmail());
         return userRepository.save(user);
     }
 }
\ No newline at end of file
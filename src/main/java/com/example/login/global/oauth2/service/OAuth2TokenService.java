@@ -43,7 +43,8 @@ public class OAuth2TokenService {
         return jwtUtil.createRefreshToken(
                 memberId,   // 실제 멤버 ID 사용
                 Role.USER,  // 기본 사용자 역할
-                email       // 실제 이메일 사용
+                email,      // 실제 이메일 사용
+                JWTUtil.newSessionId()
         );
     }
 
@@ -51,7 +52,8 @@ public class OAuth2TokenService {
         return jwtUtil.createRefreshToken(
                 memberId,   // 실제 멤버 ID 사용
                 Role.GUEST, // 임시 역할
-                email       // 실제 이메일 사용
+                email,      // 실제 이메일 사용
+                JWTUtil.newSessionId()
         );
     }
 
@@ -61,9 +63,10 @@ public class OAuth2TokenService {
         log.info("OAuth2 AccessToken과 RefreshToken 전송 완료");
     }
 
-    public void updateRefreshToken(String email, String refreshToken) {
-        refreshTokenService.saveToken(email, refreshToken);
-        log.info("OAuth2 RefreshToken 갱신 완료 - Email: {}", email);
+    // TokenValidator가 회원 ID로 조회하므로 이메일이 아닌 회원 ID 기준으로 세션 저장
+    public void saveRefreshToken(String memberId, String refreshToken, String device) {
+        refreshTokenService.saveToken(memberId, refreshToken, device);
+        log.info("OAuth2 RefreshToken 저장 완료 - Member: {}", memberId);
     }
 
     private void setAccessToken(HttpServletResponse response, String accessToken) {
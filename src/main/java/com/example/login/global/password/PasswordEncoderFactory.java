@@ -0,0 +1,67 @@
+package com.example.login.global.password;
+
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.login.global.config.properties.PasswordHashingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알고리즘 접두사("{bcrypt}", "{argon2}")로 위임하는 PasswordEncoder 생성
+ * 새 해시는 설정된 알고리즘과 기동 시 보정한 비용으로 만들고, 접두사가 없는 기존 BCrypt 해시도 그대로 검증한다
+ * 저장된 해시가 다른 알고리즘이거나 현재 비용보다 낮으면 upgradeEncoding이 true가 되어 로그인 성공 시 재해시된다
+ * (비용이 더 높은 해시는 낮추지 않으므로 인스턴스마다 보정 결과가 달라도 해시가 번갈아 바뀌지 않는다)
+ */
+@Slf4j
+public final class PasswordEncoderFactory {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String ARGON2_ID = "argon2";
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(PasswordHashingProperties properties) {
+        long targetNanos = properties.getTargetLatency().toNanos();
+        PasswordHashingProperties.Bcrypt bcrypt = properties.getBcrypt();
+        PasswordHashingProperties.Argon2 argon2 = properties.getArgon2();
+        boolean argon2Default = properties.getAlgorithm() == PasswordHashingProperties.Algorithm.ARGON2;
+
+        // 기본 알고리즘만 보정하고, 나머지는 검증용이므로 최소 비용으로 둔다
+        int strength = argon2Default
+                ? bcrypt.getMinStrength()
+                : PasswordHashCalibrator.calibrate(BCryptPasswordEncoder::new,
+                        bcrypt.getMinStrength(), bcrypt.getMaxStrength(), targetNanos, true);
+        int iterations = argon2Default
+                ? PasswordHashCalibrator.calibrate(i -> argon2(argon2, i),
+                        argon2.getMinIterations(), argon2.getMaxIterations(), targetNanos, false)
+                : argon2.getMinIterations();
+
+        BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(strength);
+        String idForEncode = argon2Default ? ARGON2_ID : BCRYPT_ID;
+        if (argon2Default) {
+            log.info("비밀번호 해시: argon2id (memory={}KiB, iterations={}, 목표 {}ms)",
+                    argon2.getMemoryKib(), iterations, properties.getTargetLatency().toMillis());
+        } else {
+            log.info("비밀번호 해시: bcrypt (strength={}, 목표 {}ms)",
+                    strength, properties.getTargetLatency().toMillis());
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                BCRYPT_ID, bcryptEncoder,
+                ARGON2_ID, argon2(argon2, iterations)));
+        // 접두사 없이 저장된 기존 해시는 BCrypt로 검증
+        encoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+        return encoder;
+    }
+
+    private static Argon2PasswordEncoder argon2(PasswordHashingProperties.Argon2 argon2, int iterations) {
+        return new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(),
+                argon2.getParallelism(), argon2.getMemoryKib(), iterations);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.login.global.password;
+
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 현재 호스트에서 해시 비용별 소요 시간을 측정해 목표 지연 시간에 맞는 비용을 선택
+ * BCrypt strength와 Argon2 반복 횟수 모두 비용 1 증가당 소요 시간이 일정하게 늘어나므로,
+ * 최소 비용에서 한 번 측정한 값으로 목표 비용을 추정한 뒤 추정값을 한 번 더 측정해 보정한다
+ */
+final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * @param encoderForCost 비용으로 인코더 생성
+     * @param exponential    비용 1 증가 시 소요 시간이 2배가 되면 true(BCrypt), 선형으로 늘면 false(Argon2)
+     * @return [minCost, maxCost] 범위에서 소요 시간이 targetNanos를 넘지 않는 가장 큰 비용 (최소 비용은 항상 허용)
+     */
+    static int calibrate(IntFunction<PasswordEncoder> encoderForCost, int minCost, int maxCost,
+                         long targetNanos, boolean exponential) {
+        if (targetNanos <= 0 || minCost >= maxCost) {
+            return minCost;
+        }
+
+        // 첫 호출은 클래스 로딩/JIT 영향이 크므로 버리고 측정
+        PasswordEncoder base = encoderForCost.apply(minCost);
+        base.encode(SAMPLE_PASSWORD);
+        long baseNanos = Math.max(1L, measure(base));
+
+        int cost = clamp(minCost + estimateSteps(baseNanos, targetNanos, minCost, exponential), minCost, maxCost);
+        // 추정값이 목표를 넘으면 한 단계씩 낮춘다
+        while (cost > minCost && measure(encoderForCost.apply(cost)) > targetNanos) {
+            cost--;
+        }
+        return cost;
+    }
+
+    private static int estimateSteps(long baseNanos, long targetNanos, int minCost, boolean exponential) {
+        double ratio = (double) targetNanos / baseNanos;
+        if (ratio <= 1.0) {
+            return 0;
+        }
+        if (exponential) {
+            return (int) Math.floor(Math.log(ratio) / Math.log(2));
+        }
+        // 선형: 비용 c의 소요 시간 ~ baseNanos * c / minCost
+        return (int) Math.floor(minCost * ratio) - minCost;
+    }
+
+    private static long measure(PasswordEncoder encoder) {
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
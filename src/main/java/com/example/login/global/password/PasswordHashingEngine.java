@@ -0,0 +1,169 @@
+package com.example.login.global.password;
+
+import com.example.login.global.config.properties.PasswordHashingProperties;
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.response.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 연산(BCrypt 등)을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 동시 해시 연산 수를 코어 수로 제한해 회원가입/로그인 폭주 시에도 토큰 갱신 등 다른 요청이 CPU를 확보하도록 하고,
+ * 대기열이 가득 차면 즉시, 대기열에서 max-wait 이상 기다리면 그 시점에 503으로 거절하며
+ * 거절된 작업은 이후 실행되지 않으므로 포화 시 아무도 기다리지 않는 해시 연산으로 풀을 점유하지 않는다
+ */
+@Slf4j
+public class PasswordHashingEngine implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingEngine(PasswordEncoder delegate,
+                                 PasswordHashingProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("해시 연산 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해시 연산 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.latency")
+                .description("대기 시간을 포함한 해시 연산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.latency")
+                .description("대기 시간을 포함한 해시 연산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("포화로 거절된 해시 연산 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 비교 없이 형식만 확인하므로 호출 스레드에서 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // maxWait는 대기열에서 기다린 시간에만 적용하고, 이미 시작한 연산은 끝까지 기다린다
+    // (BCrypt/Argon2는 인터럽트에 반응하지 않으므로 시작한 연산을 취소해도 스레드는 계속 점유됨)
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        QueuedTask<T> queued = new QueuedTask<>(task);
+        Future<T> future;
+        try {
+            future = executor.submit(queued);
+        } catch (RejectedExecutionException e) {
+            throw reject("대기열 포화");
+        }
+
+        try {
+            try {
+                return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (queued.abandon()) {
+                    // 아직 시작 전이므로 실행되지 않고 버려진다
+                    future.cancel(false);
+                    throw reject("대기 시간 초과");
+                }
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            if (queued.abandon()) {
+                future.cancel(false);
+            }
+            Thread.currentThread().interrupt();
+            throw reject("요청 스레드 중단");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 연산 실패", e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 대기 중 포기된 작업은 워커가 꺼내더라도 해시 연산을 시작하지 않는다
+    private static final class QueuedTask<T> implements Callable<T> {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int ABANDONED = 2;
+
+        private final Callable<T> task;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private QueuedTask(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                throw new CancellationException("대기 시간 초과로 포기된 해시 연산");
+            }
+            return task.call();
+        }
+
+        // 시작 전이면 포기 처리하고 true, 이미 시작했으면 false
+        boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+    }
+
+    private BaseException reject(String reason) {
+        rejectedCounter.increment();
+        log.warn("비밀번호 해시 요청 거절 ({}) - 대기열: {}, 실행 중: {}",
+                reason, executor.getQueue().size(), executor.getActiveCount());
+        return new BaseException(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.login.global.ratelimit;
+
+import com.google.common.net.InetAddresses;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.net.InetAddress;
+import java.util.List;
+
+/**
+ * Rate Limit 키로 사용할 클라이언트 IP 결정
+ * X-Forwarded-For / X-Real-IP는 직접 연결한 상대가 신뢰하는 프록시(rate-limit.trusted-proxies)일 때만 사용한다
+ * 그렇지 않으면 클라이언트가 요청마다 헤더를 바꿔 IP 기준 제한을 우회할 수 있다
+ */
+public final class ClientIpResolver {
+
+    private final List<Cidr> trustedProxies;
+
+    /**
+     * @param trustedProxies "10.0.0.0/8", "192.168.0.10", "fd00::/8" 형식
+     */
+    public ClientIpResolver(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .filter(proxy -> proxy != null && !proxy.isBlank())
+                .map(Cidr::parse)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        // 오른쪽(가장 가까운 프록시가 추가한 값)부터 거슬러 올라가 처음 만나는 신뢰하지 않는 주소가 클라이언트
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            String[] hops = xForwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!InetAddresses.isInetAddress(hop)) {
+                    // 위조되었거나 해석할 수 없는 값, 그 앞의 값도 신뢰할 수 없으므로 여기서 멈춤
+                    return i == hops.length - 1 ? remoteAddr : hops[i + 1].trim();
+                }
+                if (!isTrusted(hop)) {
+                    return hop;
+                }
+            }
+            return hops[0].trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && InetAddresses.isInetAddress(xRealIp.trim())) {
+            return xRealIp.trim();
+        }
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String ip) {
+        if (trustedProxies.isEmpty() || ip == null || !InetAddresses.isInetAddress(ip)) {
+            return false;
+        }
+        byte[] address = InetAddresses.forString(ip).getAddress();
+        for (Cidr cidr : trustedProxies) {
+            if (cidr.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String value) {
+            String trimmed = value.trim();
+            int slash = trimmed.indexOf('/');
+            InetAddress address = InetAddresses.forString(slash < 0 ? trimmed : trimmed.substring(0, slash));
+            byte[] network = address.getAddress();
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(trimmed.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("잘못된 프록시 대역입니다: " + value);
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.example.login.global.config.properties.RateLimitProperties.FailureMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 토큰 버킷 기반 클러스터 공용 Rate Limiter
+ * 노드는 버킷에서 허용량을 조금씩 임차해 로컬에서 소비하므로 대부분의 요청은 네트워크 왕복 없이 처리된다
+ * Redis가 지연 예산 안에 응답하지 못하면 설정된 장애 정책(로컬 한도 대체/거부)을 따른다
+ */
+@Slf4j
+@Component
+public class DistributedRateLimiter {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiterStore localStore;
+    private final RateLimitProperties.Distributed properties;
+    private final RedisScript<Long> leaseScript =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit-lease.lua"), Long.class);
+    private final Cache<Long, Lease> leases;
+    private final ThreadPoolExecutor redisExecutor;
+    private final Timer redisTimer;
+    private final Counter fallbackCounter;
+
+    // 이 시각(epoch ms)까지는 Redis 호출을 생략하고 장애 정책을 적용
+    private volatile long redisSuspendedUntil;
+
+    public DistributedRateLimiter(RedisTemplate<String, String> redisTemplate,
+                                  RateLimiterStore localStore,
+                                  RateLimitProperties rateLimitProperties,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.localStore = localStore;
+        this.properties = rateLimitProperties.getDistributed();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaxKeys())
+                .expireAfterAccess(rateLimitProperties.getIdleTimeout())
+                .build();
+
+        // 대기열이 가득 차면 즉시 거절되어 장애 정책으로 처리된다
+        int threads = properties.getThreads();
+        this.redisExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16), runnable -> {
+                    Thread thread = new Thread(runnable, "rate-limit-redis");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.redisTimer = Timer.builder("ratelimit.redis.latency")
+                .description("분산 Rate Limit 임차 스크립트 실행 시간")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("ratelimit.redis.fallback")
+                .description("Redis 장애/지연으로 장애 정책이 적용된 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허용량 1개 획득 시도
+     */
+    public boolean tryAcquire(long key, RateLimitPolicy policy) {
+        Lease lease = leases.get(key, k -> new Lease());
+        if (lease.tryTake()) {
+            return true;
+        }
+
+        // 같은 키의 임차 요청은 한 번만 Redis로 보내고 나머지는 결과를 기다린다
+        synchronized (lease) {
+            if (lease.tryTake()) {
+                return true;
+            }
+            if (System.currentTimeMillis() < redisSuspendedUntil) {
+                return onRedisUnavailable(key, policy);
+            }
+
+            int batch = Math.max(1, (int) (policy.getBurst() * properties.getTolerance()));
+            Integer granted = lease(key, policy, batch);
+            if (granted == null) {
+                return onRedisUnavailable(key, policy);
+            }
+            if (granted <= 0) {
+                return false;
+            }
+            // 하나는 지금 요청에 사용하고 나머지는 로컬에 보관
+            lease.refill(granted - 1, System.currentTimeMillis() + properties.getLeaseTtl().toMillis());
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisExecutor.shutdownNow();
+    }
+
+    // 지연 예산 안에 응답이 없거나 실패하면 null
+    private Integer lease(long key, RateLimitPolicy policy, int batch) {
+        long budgetMillis = properties.getLatencyBudget().toMillis();
+        long start = System.nanoTime();
+        try {
+            Long granted = CompletableFuture
+                    .supplyAsync(() -> redisTemplate.execute(leaseScript, List.of(KEY_PREFIX + Long.toHexString(key)),
+                            String.valueOf(policy.getPermitsPerSecond()), String.valueOf(policy.getBurst()),
+                            String.valueOf(batch)),
+                            redisExecutor)
+                    .get(budgetMillis, TimeUnit.MILLISECONDS);
+            return granted != null ? granted.intValue() : 0;
+        } catch (TimeoutException | ExecutionException | RejectedExecutionException e) {
+            redisSuspendedUntil = System.currentTimeMillis() + properties.getCooldown().toMillis();
+            log.warn("분산 Rate Limit Redis 호출 실패, {}ms 동안 {} 정책 적용: {}",
+                    properties.getCooldown().toMillis(), properties.getFailureMode(), e.toString());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            redisTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean onRedisUnavailable(long key, RateLimitPolicy policy) {
+        fallbackCounter.increment();
+        if (properties.getFailureMode() == FailureMode.CLOSED) {
+            return false;
+        }
+        // 노드별 로컬 한도로 대체 (클러스터 전체로는 최대 N배까지 허용될 수 있음)
+        return localStore.tryAcquire(key, policy);
+    }
+
+    /**
+     * 로컬에 보관 중인 임차 허용량, 유효 시간이 지나면 남은 허용량은 사용하지 않는다
+     */
+    private static final class Lease {
+
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long expiresAt;
+
+        boolean tryTake() {
+            if (System.currentTimeMillis() >= expiresAt) {
+                return false;
+            }
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void refill(int permits, long expiresAt) {
+            remaining.set(permits);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.login.global.ratelimit;
+
+/**
+ * @param key "차원:값" 형식 (예: "ip:203.0.113.7", "subnet:203.0.113.0/24", "email:user@example.com")
+ * @param estimate 윈도우 내 추정 요청 수
+ */
+public record HeavyHitter(String key, long estimate, long lastSeenAt) {
+}
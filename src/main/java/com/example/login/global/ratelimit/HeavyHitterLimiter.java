@@ -0,0 +1,129 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.net.InetAddresses;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 스케치 기반 과다 요청 클라이언트 탐지 (rate-limit.sketch.enabled)
+ * 모든 요청 키(IP, /24 대역, 로그인 대상 이메일)는 고정 크기 Count-Min Sketch에만 기록하고,
+ * 윈도우 내 추정 빈도가 임계치를 넘은 키에만 실제 토큰 버킷을 적용한다
+ * 공격자 수와 무관하게 메모리는 스케치 + 상위 K개 목록 + 임계치 초과 키의 버킷으로 제한된다
+ */
+@Component
+public class HeavyHitterLimiter {
+
+    private static final HashFunction LABEL_HASH = Hashing.murmur3_128();
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int subnetMultiplier;
+    private final SlidingCountMinSketch sketch;
+    private final HeavyHitterTracker tracker;
+    private final RateLimitEnforcer enforcer;
+    private final RateLimitPolicyRegistry policyRegistry;
+
+    public HeavyHitterLimiter(RateLimitProperties properties,
+                              RateLimitEnforcer enforcer,
+                              RateLimitPolicyRegistry policyRegistry) {
+        RateLimitProperties.Sketch config = properties.getSketch();
+        long windowMillis = config.getWindow().toMillis();
+        this.enabled = config.isEnabled();
+        this.threshold = config.getThreshold();
+        this.subnetMultiplier = Math.max(1, config.getSubnetMultiplier());
+        this.sketch = new SlidingCountMinSketch(config.getDepth(), config.getWidth(), config.getSlots(), windowMillis);
+        this.tracker = new HeavyHitterTracker(config.getTopK(), windowMillis);
+        this.enforcer = enforcer;
+        this.policyRegistry = policyRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 클라이언트 요청 허용 여부, 클라이언트 키와 그 /24(/48) 대역을 함께 집계한다
+     * 대역에는 NAT 뒤의 여러 클라이언트가 있을 수 있으므로, 대역 자체의 추정 빈도가 임계치를 넘은 경우에만
+     * 정책 한도 x subnet-multiplier 버킷을 적용하며, 대역에서 거절되면 클라이언트 버킷은 차감하지 않는다
+     * @param clientLabel "차원:값" 형식의 클라이언트 키 (예: "ip:203.0.113.7")
+     */
+    public boolean tryAcquire(RateLimitPolicy policy, String clientLabel, String clientIp) {
+        long now = System.currentTimeMillis();
+        String subnetLabel = "subnet:" + subnetOf(clientIp);
+        int subnetEstimate = addAndEstimate(subnetLabel, now);
+        if (subnetEstimate >= threshold) {
+            tracker.report(subnetLabel, subnetEstimate, now);
+            if (!enforcer.tryAcquire(policy.scaled(subnetMultiplier), subnetLabel)) {
+                return false;
+            }
+        }
+        return acquire(policy, clientLabel, now);
+    }
+
+    /**
+     * @param label "차원:값" 형식의 키 (예: "email:user@example.com")
+     * @return 허용 여부, 임계치 미만이면 버킷 없이 허용
+     *         (버킷 용량이 임계치보다 작은 정책은 스케치만으로 허용하면 원래 한도보다 느슨해지므로 항상 버킷 적용)
+     */
+    public boolean tryAcquire(RateLimitPolicy policy, String label) {
+        return acquire(policy, label, System.currentTimeMillis());
+    }
+
+    private boolean acquire(RateLimitPolicy policy, String label, long now) {
+        int estimate = addAndEstimate(label, now);
+        if (estimate < threshold) {
+            if (policy.getBurst() >= threshold) {
+                return true;
+            }
+        } else {
+            tracker.report(label, estimate, now);
+        }
+        return enforcer.tryAcquire(policy, label);
+    }
+
+    private int addAndEstimate(String label, long now) {
+        return sketch.addAndEstimate(LABEL_HASH.hashString(label, StandardCharsets.UTF_8).asLong(), now);
+    }
+
+    /**
+     * 여러 IP에서 같은 계정을 노리는 요청 탐지용, 로그인 대상 이메일 기록
+     */
+    public boolean tryAcquireLoginTarget(HttpServletRequest request, String email) {
+        if (!enabled || email == null) {
+            return true;
+        }
+        RateLimitPolicy policy = policyRegistry.match(RequestPath.of(request));
+        return policy == null || tryAcquire(policy, "email:" + email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public List<HeavyHitter> heavyHitters() {
+        return tracker.snapshot(System.currentTimeMillis());
+    }
+
+    // IPv4는 /24, IPv6는 /48 대역 (생략 표기 '::'도 주소로 해석한 뒤 마스킹), IP 형식이 아니면 그대로 반환
+    static String subnetOf(String ip) {
+        if (ip == null || !InetAddresses.isInetAddress(ip)) {
+            return ip;
+        }
+        byte[] address = InetAddresses.forString(ip).getAddress();
+        int prefixBytes = address.length == 4 ? 3 : 6;
+        for (int i = prefixBytes; i < address.length; i++) {
+            address[i] = 0;
+        }
+        try {
+            return InetAddresses.toAddrString(InetAddress.getByAddress(address)) + '/' + (prefixBytes * 8);
+        } catch (UnknownHostException e) {
+            // 4 또는 16바이트 주소이므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
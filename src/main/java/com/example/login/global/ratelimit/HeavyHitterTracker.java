@@ -0,0 +1,57 @@
+package com.example.login.global.ratelimit;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추정 빈도가 임계치를 넘은 키 중 상위 K개만 보관
+ * 이미 보관 중인 키의 갱신은 O(1), 새 키가 들어와 가득 찬 경우에만 O(K)로 최솟값을 교체한다
+ */
+final class HeavyHitterTracker {
+
+    private final int capacity;
+    private final long windowMillis;
+    private final Map<String, HeavyHitter> entries = new ConcurrentHashMap<>();
+
+    HeavyHitterTracker(int capacity, long windowMillis) {
+        this.capacity = capacity;
+        this.windowMillis = windowMillis;
+    }
+
+    void report(String key, int estimate, long now) {
+        HeavyHitter updated = new HeavyHitter(key, estimate, now);
+        if (entries.replace(key, updated) != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (entries.size() >= capacity) {
+                // 윈도우를 벗어났거나 가장 빈도가 낮은 항목을 제거, 새 항목보다 크면 보관하지 않음
+                HeavyHitter weakest = entries.values().stream()
+                        .min(Comparator.comparingLong((HeavyHitter h) -> isStale(h, now) ? -1 : h.estimate()))
+                        .orElse(null);
+                if (weakest != null && !isStale(weakest, now) && weakest.estimate() >= estimate) {
+                    return;
+                }
+                if (weakest != null) {
+                    entries.remove(weakest.key());
+                }
+            }
+            entries.put(key, updated);
+        }
+    }
+
+    // 윈도우 안에서 관측된 항목을 빈도 내림차순으로 반환
+    List<HeavyHitter> snapshot(long now) {
+        return entries.values().stream()
+                .filter(h -> !isStale(h, now))
+                .sorted(Comparator.comparingLong(HeavyHitter::estimate).reversed())
+                .toList();
+    }
+
+    private boolean isStale(HeavyHitter hitter, long now) {
+        return now - hitter.lastSeenAt() > windowMillis;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.example.login.global.config.properties.RateLimitProperties.Mode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 모드(local/distributed)에 따라 실제 토큰 버킷에서 허용량을 획득
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitEnforcer {
+
+    private final RateLimiterStore rateLimiterStore;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+
+    public boolean tryAcquire(RateLimitPolicy policy, String subject) {
+        long key = RateLimiterStore.key(policy, subject);
+        if (rateLimitProperties.getMode() == Mode.DISTRIBUTED) {
+            return distributedRateLimiter.tryAcquire(key, policy);
+        }
+        return rateLimiterStore.tryAcquire(key, policy);
+    }
+}
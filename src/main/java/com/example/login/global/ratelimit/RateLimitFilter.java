@@ -0,0 +1,88 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.dto.CommonApiResponse;
+import com.example.login.global.jwt.AccessTokenCache;
+import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.jwt.VerifiedToken;
+import com.example.login.global.response.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 엔드포인트별 Rate Limit 필터
+ * 로그인(LoginFilter) 등 Security 필터에서 처리되는 요청도 제한하도록 Security 필터 체인보다 먼저 실행된다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitPolicyRegistry policyRegistry;
+    private final RateLimitEnforcer enforcer;
+    private final HeavyHitterLimiter heavyHitterLimiter;
+    private final AccessTokenCache accessTokenCache;
+    private final JWTUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = RequestPath.of(request);
+        RateLimitPolicy policy = policyRegistry.match(path);
+        if (policy != null) {
+            String clientIp = clientIpResolver.resolve(request);
+            if (!tryAcquire(policy, subject(policy, request, path, clientIp), clientIp)) {
+                log.warn("Rate limit exceeded for IP: {} on endpoint: {} (policy: {})",
+                        clientIp, path, policy.getName());
+                sendTooManyRequests(response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean tryAcquire(RateLimitPolicy policy, String subject, String clientIp) {
+        if (!heavyHitterLimiter.isEnabled()) {
+            return enforcer.tryAcquire(policy, subject);
+        }
+        // 대역 단위 분산 요청도 탐지하도록 클라이언트 키와 /24 대역을 함께 집계
+        String label = policy.getKeyType().name().toLowerCase(Locale.ROOT) + ':' + subject;
+        return heavyHitterLimiter.tryAcquire(policy, label, clientIp);
+    }
+
+    private String subject(RateLimitPolicy policy, HttpServletRequest request, String path, String clientIp) {
+        return switch (policy.getKeyType()) {
+            case IP -> clientIp;
+            // 인코딩 변형마다 새 버킷이 생기지 않도록 정규화된 경로 사용
+            case IP_PATH -> clientIp + ' ' + path;
+            // 인증 필터보다 먼저 실행되므로 토큰에서 직접 회원을 식별 (검증 결과는 캐시되어 재사용됨)
+            case MEMBER -> jwtUtil.extractAccessToken(request)
+                    .flatMap(accessTokenCache::verify)
+                    .map(VerifiedToken::getId)
+                    .map(memberId -> "member:" + memberId)
+                    .orElse(clientIp);
+        };
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        CommonApiResponse<Void> errorResponse = CommonApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS);
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
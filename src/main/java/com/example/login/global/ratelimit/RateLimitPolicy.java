@@ -0,0 +1,54 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.example.login.global.config.properties.RateLimitProperties.KeyType;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 컴파일된 Rate Limit 정책 (불변)
+ */
+@Getter
+public final class RateLimitPolicy {
+
+    private final String name;
+    private final KeyType keyType;
+    private final double permitsPerSecond;
+    private final int burst;
+    // 정책 내용으로 계산한 식별자, 재적재 후에도 내용이 같으면 기존 버킷을 그대로 사용
+    private final long fingerprint;
+
+    private RateLimitPolicy(String name, KeyType keyType, double permitsPerSecond, int burst) {
+        this.name = name;
+        this.keyType = keyType;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.fingerprint = Hashing.murmur3_128().newHasher()
+                .putString(name, StandardCharsets.UTF_8)
+                .putInt(keyType.ordinal())
+                .putDouble(permitsPerSecond)
+                .putInt(burst)
+                .hash()
+                .asLong();
+    }
+
+    /**
+     * 한도와 버킷 용량을 factor배 늘린 정책 (대역 단위 버킷용), 내용이 달라지므로 별도 버킷을 사용한다
+     */
+    RateLimitPolicy scaled(int factor) {
+        return new RateLimitPolicy(name + "*" + factor, keyType, permitsPerSecond * factor,
+                (int) Math.min(Integer.MAX_VALUE, (long) burst * factor));
+    }
+
+    static RateLimitPolicy from(RateLimitProperties.Policy policy) {
+        if (policy.getLimit() <= 0 || policy.getPeriod() == null || policy.getPeriod().isZero()) {
+            throw new IllegalArgumentException("Rate Limit 정책의 limit/period가 올바르지 않습니다: " + policy.getName());
+        }
+        double permitsPerSecond = policy.getLimit() * 1000.0 / policy.getPeriod().toMillis();
+        int burst = policy.getBurst() > 0 ? policy.getBurst() : policy.getLimit();
+        String name = policy.getName() != null ? policy.getName() : policy.getPattern();
+        return new RateLimitPolicy(name, policy.getKey(), permitsPerSecond, burst);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 세그먼트 트라이로 컴파일된 정책 매처 (불변)
+ * 요청마다 정규식이나 패턴 목록 순회 없이 세그먼트 수에 비례하는 조회로 정책을 찾는다
+ * 우선순위: 정확히 일치하는 세그먼트 > '*' > '**'
+ */
+final class RateLimitPolicyMatcher {
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final Node root;
+
+    private RateLimitPolicyMatcher(Node root) {
+        this.root = root;
+    }
+
+    static RateLimitPolicyMatcher compile(List<RateLimitProperties.Policy> policies) {
+        Node root = new Node();
+        for (RateLimitProperties.Policy policy : policies) {
+            RateLimitPolicy compiled = RateLimitPolicy.from(policy);
+            String[] segments = trimSlashes(policy.getPattern()).split("/");
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (MULTI_WILDCARD.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**'는 패턴의 마지막에만 사용할 수 있습니다: " + policy.getPattern());
+                    }
+                    node.multiWildcard = compiled;
+                    node = null;
+                    break;
+                }
+                node = SINGLE_WILDCARD.equals(segment)
+                        ? (node.singleWildcard != null ? node.singleWildcard : (node.singleWildcard = new Node()))
+                        : node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            if (node != null) {
+                node.terminal = compiled;
+            }
+        }
+        return new RateLimitPolicyMatcher(root);
+    }
+
+    // 일치하는 정책이 없으면 null
+    RateLimitPolicy match(String path) {
+        return match(root, path, 0);
+    }
+
+    private static RateLimitPolicy match(Node node, String path, int from) {
+        while (from < path.length() && path.charAt(from) == '/') {
+            from++;
+        }
+        if (from >= path.length()) {
+            return node.terminal != null ? node.terminal : node.multiWildcard;
+        }
+
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        Node exact = node.children.get(path.substring(from, end));
+        if (exact != null) {
+            RateLimitPolicy matched = match(exact, path, end);
+            if (matched != null) {
+                return matched;
+            }
+        }
+        if (node.singleWildcard != null) {
+            RateLimitPolicy matched = match(node.singleWildcard, path, end);
+            if (matched != null) {
+                return matched;
+            }
+        }
+        return node.multiWildcard;
+    }
+
+    private static String trimSlashes(String pattern) {
+        int start = 0;
+        int end = pattern.length();
+        while (start < end && pattern.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && pattern.charAt(end - 1) == '/') {
+            end--;
+        }
+        return pattern.substring(start, end);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node singleWildcard;
+        private RateLimitPolicy terminal;       // 이 노드에서 경로가 끝날 때
+        private RateLimitPolicy multiWildcard;  // 이 노드 이하 모든 경로 ('**')
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.login.global.ratelimit;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 현재 적용 중인 Rate Limit 정책 매처 보관
+ * 기동 시 application.yml의 정책을 컴파일하고, rate-limit.policy-file이 지정되면 파일 변경을 감지해 재시작 없이 교체한다
+ */
+@Slf4j
+@Component
+public class RateLimitPolicyRegistry {
+
+    private static final String POLICIES_PROPERTY = "rate-limit.policies";
+
+    private final RateLimitProperties properties;
+    private volatile RateLimitPolicyMatcher matcher;
+    private volatile long policyFileModifiedAt;
+
+    public RateLimitPolicyRegistry(RateLimitProperties properties) {
+        this.properties = properties;
+        this.matcher = RateLimitPolicyMatcher.compile(properties.getPolicies());
+        log.info("Rate Limit 정책 {}개 적용", properties.getPolicies().size());
+        reloadIfChanged();
+    }
+
+    // 요청 경로에 적용할 정책, 없으면 null
+    public RateLimitPolicy match(String path) {
+        return matcher.match(path);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.reload-interval-millis:10000}")
+    public void reloadIfChanged() {
+        String path = properties.getPolicyFile();
+        if (path == null || path.isBlank()) {
+            return;
+        }
+
+        File file = new File(path);
+        long modifiedAt = file.lastModified();
+        if (modifiedAt == 0L || modifiedAt == policyFileModifiedAt) {
+            return;
+        }
+
+        try {
+            List<RateLimitProperties.Policy> policies = load(file);
+            // 컴파일에 성공한 경우에만 교체하여 잘못된 파일이 기존 정책을 지우지 않도록 한다
+            this.matcher = RateLimitPolicyMatcher.compile(policies);
+            this.policyFileModifiedAt = modifiedAt;
+            log.info("Rate Limit 정책 파일 재적재: {} ({}개)", path, policies.size());
+        } catch (IOException | RuntimeException e) {
+            this.policyFileModifiedAt = modifiedAt;
+            log.error("Rate Limit 정책 파일 적용 실패, 기존 정책 유지: {}", path, e);
+        }
+    }
+
+    private static List<RateLimitProperties.Policy> load(File file) throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load("rate-limit-policy-file", new FileSystemResource(file))));
+        return binder.bind(POLICIES_PROPERTY, Bindable.listOf(RateLimitProperties.Policy.class))
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.login.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Rate Limit 정책 매칭에 사용할 요청 경로
+ * 원본 요청 URI가 아니라 MVC/Security와 같은 디코딩·정규화된 경로(컨텍스트 경로 제외)를 사용한다
+ * 그렇지 않으면 "/api/auth/%6Cogin" 같은 인코딩 변형이 로그인으로 처리되면서도 정책에는 걸리지 않는다
+ */
+public final class RequestPath {
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    static {
+        // 서블릿 매핑과 무관하게 애플리케이션 기준 전체 경로 (퍼센트 디코딩, ';' 파라미터 제거, '//' 정리)
+        PATH_HELPER.setAlwaysUseFullPath(true);
+    }
+
+    private RequestPath() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        return PATH_HELPER.getLookupPathForRequest(request);
+    }
+}
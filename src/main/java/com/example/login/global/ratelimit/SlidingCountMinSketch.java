@@ -0,0 +1,74 @@
+package com.example.login.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 슬라이딩 윈도우 Count-Min Sketch
+ * 윈도우를 여러 슬롯으로 나누고 슬롯마다 depth x width 카운터를 두어, 고유 키 수와 무관하게 고정된 메모리로 빈도를 추정한다
+ * 추정값은 실제 값 이상이며(과대 추정만 발생), 오차는 width가 클수록 줄어든다
+ */
+final class SlidingCountMinSketch {
+
+    private final int depth;
+    private final int widthMask;
+    private final int slots;
+    private final long slotMillis;
+    private final AtomicIntegerArray[] counters;  // 슬롯별 depth x width 카운터
+    private final AtomicLongArray slotEpochs;     // 각 슬롯이 담고 있는 시간 구간 번호
+
+    /**
+     * @param width 2의 거듭제곱으로 올림
+     */
+    SlidingCountMinSketch(int depth, int width, int slots, long windowMillis) {
+        int normalizedWidth = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.depth = depth;
+        this.widthMask = normalizedWidth - 1;
+        this.slots = slots;
+        this.slotMillis = Math.max(1L, windowMillis / slots);
+        this.counters = new AtomicIntegerArray[slots];
+        for (int i = 0; i < slots; i++) {
+            counters[i] = new AtomicIntegerArray(depth * normalizedWidth);
+        }
+        this.slotEpochs = new AtomicLongArray(slots);
+    }
+
+    /**
+     * 키의 빈도를 1 증가시키고, 윈도우 전체에 대한 추정 빈도를 반환
+     */
+    int addAndEstimate(long hash, long now) {
+        long epoch = now / slotMillis;
+        AtomicIntegerArray current = slot(epoch);
+
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+            current.incrementAndGet(index);
+
+            int sum = 0;
+            for (int i = 0; i < slots; i++) {
+                // 윈도우를 벗어난 슬롯은 제외
+                if (epoch - slotEpochs.get(i) < slots) {
+                    sum += counters[i].get(index);
+                }
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    // 현재 시간 구간의 슬롯, 오래된 구간을 담고 있으면 한 스레드만 비우고 재사용
+    private AtomicIntegerArray slot(long epoch) {
+        int ring = (int) (epoch % slots);
+        long held = slotEpochs.get(ring);
+        if (held < epoch && slotEpochs.compareAndSet(ring, held, epoch)) {
+            AtomicIntegerArray stale = counters[ring];
+            for (int i = 0; i < stale.length(); i++) {
+                stale.set(i, 0);
+            }
+        }
+        return counters[ring];
+    }
+}
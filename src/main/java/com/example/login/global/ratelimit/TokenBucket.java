@@ -0,0 +1,31 @@
+package com.example.login.global.ratelimit;
+
+/**
+ * 노드 로컬 토큰 버킷
+ * 필드 4개만 가지는 경량 구현으로, 용량(burst)과 충전 속도를 따로 지정할 수 있다
+ */
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final int burst;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        if (tokens < 1d) {
+            return false;
+        }
+        tokens -= 1d;
+        return true;
+    }
+}
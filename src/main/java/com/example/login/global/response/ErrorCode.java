@@ -20,16 +20,22 @@ public enum ErrorCode implements ErrorType {
     REFRESH_TOKEN_NOT_FOUND("E401", "리프레시 토큰을 찾을 수 없습니다", HttpStatus.UNAUTHORIZED.value()),
     ACCESS_TOKEN_REQUIRED("E401", "액세스 토큰이 필요합니다", HttpStatus.UNAUTHORIZED.value()),
     TOKEN_BLACKLISTED("E401", "차단된 토큰입니다", HttpStatus.UNAUTHORIZED.value()),
+    REFRESH_TOKEN_REUSED("E401", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED.value()),
     OAUTH2_LOGIN_FAILED("E401", "소셜 로그인에 실패했습니다. 다시 시도해주세요.", HttpStatus.UNAUTHORIZED.value()),
     
     MEMBER_NOT_FOUND("E404", "회원을 찾을 수 없습니다", HttpStatus.NOT_FOUND.value()),
+    SESSION_NOT_FOUND("E404", "세션을 찾을 수 없습니다", HttpStatus.NOT_FOUND.value()),
     
     TOO_MANY_REQUESTS("E429", "너무 많은 요청입니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
+    IMPORT_BUSY("E429", "이미 진행 중인 일괄 등록이 있습니다. 완료 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
+    EXPORT_BUSY("E429", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
+    ACCOUNT_LOCKED("E429", "로그인 실패가 반복되어 계정이 일시적으로 잠겼습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
     
     DUPLICATE_EMAIL("E409", "이미 가입된 이메일입니다", HttpStatus.CONFLICT.value()),
     
     // 5xx Server Error
-    INTERNAL_SERVER_ERROR("E500", "내부 서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value());
+    INTERNAL_SERVER_ERROR("E500", "내부 서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()),
+    PASSWORD_HASHING_BUSY("E503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value());
 
     private final String code;
     private final String message;
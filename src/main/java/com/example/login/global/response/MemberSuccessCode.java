@@ -16,7 +16,12 @@ public enum MemberSuccessCode implements SuccessType {
     MEMBER_UPDATED("S206", "회원 정보 수정 성공"),
     MEMBER_DELETED("S207", "회원 삭제 성공"),
     MEMBER_VIEW("S208", "회원 정보 조회 성공"),
-    SOCIAL_LOGIN_SUCCESS("S209", "소셜 로그인 성공");
+    SOCIAL_LOGIN_SUCCESS("S209", "소셜 로그인 성공"),
+    TOKEN_REVOKED("S210", "토큰 일괄 폐기 성공"),
+    SESSION_VIEW("S211", "세션 목록 조회 성공"),
+    SESSION_REVOKED("S212", "세션 폐기 성공"),
+    RATE_LIMIT_VIEW("S213", "요청 제한 현황 조회 성공"),
+    MEMBER_IMPORTED("S214", "회원 일괄 등록 완료");
 
     private final String code;
     private final String message;
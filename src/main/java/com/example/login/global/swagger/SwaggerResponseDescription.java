@@ -13,13 +13,17 @@ public enum SwaggerResponseDescription {
     MEMBER_JOIN_ERROR(Set.of(
         ErrorCode.DUPLICATE_EMAIL,
         ErrorCode.PARAMETER_VALIDATION_ERROR,
-        ErrorCode.INVALID_INPUT_VALUE
+        ErrorCode.INVALID_INPUT_VALUE,
+        ErrorCode.PASSWORD_HASHING_BUSY
     )),
     
     AUTH_ERROR(Set.of(
         ErrorCode.INVALID_TOKEN,
         ErrorCode.REFRESH_TOKEN_NOT_FOUND,
-        ErrorCode.LOGIN_FAIL
+        ErrorCode.REFRESH_TOKEN_REUSED,
+        ErrorCode.SESSION_NOT_FOUND,
+        ErrorCode.LOGIN_FAIL,
+        ErrorCode.ACCOUNT_LOCKED
     )),
     
     COMMON_ERROR(Set.of(
@@ -0,0 +1,22 @@
+-- 회원 이메일 유니크 제약 이름을 uk_member_email로 고정 (가입 시 중복 이메일 판정에 사용)
+-- 기존 스키마는 Hibernate가 생성한 임의 이름이므로, member_email 단일 컬럼 유니크 제약을 찾아 이름을 바꾼다
+-- 새 코드 배포 전에 실행한다 (이름이 다르면 중복 가입이 DUPLICATE_EMAIL이 아닌 서버 오류로 응답됨)
+
+DO $$
+DECLARE
+    existing TEXT;
+BEGIN
+    SELECT c.conname INTO existing
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'member_table'::regclass
+      AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1
+      AND a.attname = 'member_email';
+
+    IF existing IS NULL THEN
+        ALTER TABLE member_table ADD CONSTRAINT uk_member_email UNIQUE (member_email);
+    ELSIF existing <> 'uk_member_email' THEN
+        EXECUTE format('ALTER TABLE member_table RENAME CONSTRAINT %I TO uk_member_email', existing);
+    END IF;
+END $$;
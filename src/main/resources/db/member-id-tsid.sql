@@ -0,0 +1,8 @@
+-- 회원 ID를 DB IDENTITY에서 애플리케이션 생성 TSID로 전환
+-- 1. 새 코드를 먼저 배포한다: IDENTITY가 BY DEFAULT이므로 애플리케이션이 지정한 id도 그대로 저장된다
+-- 2. 모든 노드가 새 코드로 교체된 뒤 아래를 실행해 DB 기본값을 제거한다
+-- 기존 id는 그대로 유지되며, 새 TSID는 항상 기존 id보다 크므로 id 순서(키셋 페이지네이션)는 가입 순서와 계속 일치한다
+-- TSID는 2^53을 넘으므로 API(JSON)와 NDJSON 내보내기에서 회원 id는 문자열로 직렬화한다
+
+ALTER TABLE member_table ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE member_table ALTER COLUMN id DROP DEFAULT;
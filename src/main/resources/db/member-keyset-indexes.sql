@@ -0,0 +1,11 @@
+-- 관리자 회원 목록의 필터 + id 내림차순 키셋 페이지네이션용 복합 인덱스
+-- ddl-auto: validate는 인덱스를 만들거나 바꾸지 않으므로 기존 DB에는 이 스크립트로 직접 생성한다
+-- 복합 인덱스는 새 이름(idx_role_id)으로 만들어, 예전 단일 컬럼 idx_role이 남아 있어도 적용된 것처럼 보이지 않게 한다
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 psql 등에서 자동 커밋으로 한 문장씩 실행한다
+-- 중간에 실패하면 INVALID 상태의 인덱스가 남을 수 있으니, DROP INDEX CONCURRENTLY 후 다시 실행한다
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_role_id ON member_table (role, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_social_type_member ON member_table (social_type, id);
+
+-- (role, id)가 role 단독 조회도 처리하므로 기존 단일 컬럼 인덱스는 제거
+DROP INDEX CONCURRENTLY IF EXISTS idx_role;
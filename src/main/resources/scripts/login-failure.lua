@@ -0,0 +1,24 @@
+-- 계정별 로그인 실패 기록 및 지수 백오프 잠금
+-- KEYS[1] : la:{이메일}       실패 횟수
+-- KEYS[2] : la:{이메일}:lock  잠금 (TTL = 남은 잠금 시간)
+-- ARGV[1] : 잠금 없이 허용하는 실패 횟수
+-- ARGV[2] : 첫 잠금 시간(ms), 이후 실패마다 2배
+-- ARGV[3] : 최대 잠금 시간(ms)
+-- ARGV[4] : 실패 횟수 보관 시간(ms)
+-- 반환 : 이번 실패로 걸린 잠금 시간(ms), 0이면 잠금 없음
+-- 잠금 여부를 TTL로 표현하므로 노드 간 시계 차이의 영향을 받지 않는다
+
+local failures = redis.call('INCR', KEYS[1])
+local window = tonumber(ARGV[4])
+-- ARGV[1]회까지는 잠금 없이 허용, 그 다음 실패부터 ARGV[2], 2배씩 증가
+local over = failures - tonumber(ARGV[1])
+if over <= 0 then
+    redis.call('PEXPIRE', KEYS[1], window)
+    return 0
+end
+
+local delay = math.min(tonumber(ARGV[3]), tonumber(ARGV[2]) * 2 ^ math.min(over - 1, 30))
+redis.call('SET', KEYS[2], '1', 'PX', delay)
+-- 잠금이 끝난 뒤 다시 실패하면 더 긴 잠금이 걸리도록 실패 횟수는 잠금 이후까지 보관
+redis.call('PEXPIRE', KEYS[1], delay + window)
+return delay
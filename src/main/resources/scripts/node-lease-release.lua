@@ -0,0 +1,9 @@
+-- TSID 노드 ID 임대 반환 (본인이 임대한 경우에만)
+-- KEYS[1] : idgen:node:{노드 ID}
+-- ARGV[1] : 임대자 식별자
+-- 반환 : 1 반환, 0 이미 다른 노드가 임대 중이거나 만료됨
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
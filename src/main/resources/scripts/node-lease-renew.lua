@@ -0,0 +1,11 @@
+-- TSID 노드 ID 임대 갱신 (본인이 임대한 경우에만)
+-- KEYS[1] : idgen:node:{노드 ID}
+-- ARGV[1] : 임대자 식별자
+-- ARGV[2] : 임대 시간(ms)
+-- 반환 : 1 갱신, 0 임대를 잃음
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,31 @@
+-- 분산 토큰 버킷에서 허용량 일부를 한 번에 임차(lease)
+-- KEYS[1] : rl:{키}
+-- ARGV[1] : 초당 충전량(permits/sec)
+-- ARGV[2] : 버킷 용량(burst)
+-- ARGV[3] : 요청하는 허용량 개수
+-- 반환 : 실제로 부여된 허용량 개수 (0이면 한도 초과)
+-- 노드 간 시계 차이를 피하기 위해 Redis 서버 시각을 사용한다
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local ratePerMs = tonumber(ARGV[1]) / 1000
+local burst = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if not tokens then
+    tokens = burst
+    ts = now
+end
+
+tokens = math.min(burst, tokens + math.max(0, now - ts) * ratePerMs)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 버킷이 가득 찰 때까지의 시간이 지나면 상태가 없는 것과 같으므로 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil(burst / ratePerMs) + 1000)
+return granted
@@ -0,0 +1,56 @@
+-- 세션 Refresh Token 원자적 교체 (compare-and-swap)
+-- KEYS[1] : rts:{memberId} (세션 ID -> 세션 값 해시)
+-- KEYS[2] : rt:grace:{제시된 토큰 다이제스트}
+-- ARGV[1] : 세션 ID
+-- ARGV[2] : 제시된 토큰 다이제스트
+-- ARGV[3] : 새 토큰 다이제스트
+-- ARGV[4] : 새 토큰 만료 시각(epoch ms)
+-- ARGV[5] : 현재 시각(epoch ms)
+-- ARGV[6] : 해시 키 TTL(ms)
+-- ARGV[7] : 새로 발급한 토큰 쌍 "{access} {refresh}"
+-- ARGV[8] : 유예 시간(ms), 0이면 유예 없음
+-- 세션 값 형식 : "{현재 다이제스트}[:{직전 다이제스트}]|{생성 시각}|{만료 시각}|{마지막 사용 시각}|{기기 정보}"
+-- (다이제스트는 Base64URL이므로 ':'와 '|'를 포함하지 않음)
+
+local stored = redis.call('HGET', KEYS[1], ARGV[1])
+if not stored then
+    return 'MISSING'
+end
+
+local digests, createdAt, expiresAt, lastUsedAt, device = string.match(stored, '^([^|]*)|([^|]*)|([^|]*)|([^|]*)|(.*)$')
+if not digests or tonumber(expiresAt) <= tonumber(ARGV[5]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 'MISSING'
+end
+
+local current = digests
+local previous = nil
+local sep = string.find(digests, ':', 1, true)
+if sep then
+    current = string.sub(digests, 1, sep - 1)
+    previous = string.sub(digests, sep + 1)
+end
+
+if current == ARGV[2] then
+    redis.call('HSET', KEYS[1], ARGV[1],
+        ARGV[3] .. ':' .. ARGV[2] .. '|' .. createdAt .. '|' .. ARGV[4] .. '|' .. ARGV[5] .. '|' .. device)
+    redis.call('PEXPIRE', KEYS[1], ARGV[6])
+    -- 동시에 들어온 다른 요청이 같은 결과를 받을 수 있도록 유예 시간 동안 보관
+    if tonumber(ARGV[8]) > 0 then
+        redis.call('SET', KEYS[2], ARGV[7], 'PX', ARGV[8])
+    end
+    return 'OK'
+end
+
+if previous == ARGV[2] then
+    -- 방금 교체된 토큰: 유예 시간 안이면 이미 발급된 토큰 쌍을 돌려준다
+    local issued = redis.call('GET', KEYS[2])
+    if issued then
+        return 'GRACE ' .. issued
+    end
+    -- 유예 시간이 지난 재사용은 탈취 가능성이 있으므로 해당 세션을 폐기
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 'REUSED'
+end
+
+return 'MISMATCH'
@@ -0,0 +1,38 @@
+-- 세션 생성, 회원당 최대 세션 수를 넘으면 가장 오래된 세션부터 제거
+-- KEYS[1] : rts:{memberId}
+-- ARGV[1] : 세션 ID
+-- ARGV[2] : 세션 값 "{다이제스트}|{생성 시각}|{만료 시각}|{마지막 사용 시각}|{기기 정보}"
+-- ARGV[3] : 현재 시각(epoch ms)
+-- ARGV[4] : 회원당 최대 세션 수, 0이면 제한 없음
+-- ARGV[5] : 해시 키 TTL(ms)
+-- 반환 : 제거된 세션 수 (만료된 세션 정리는 제외)
+
+local now = tonumber(ARGV[3])
+local max = tonumber(ARGV[4])
+
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+for i = 1, #entries, 2 do
+    local sessionId = entries[i]
+    if sessionId ~= ARGV[1] then
+        local _, createdAt, expiresAt = string.match(entries[i + 1], '^([^|]*)|([^|]*)|([^|]*)|')
+        if not createdAt or tonumber(expiresAt) <= now then
+            redis.call('HDEL', KEYS[1], sessionId)
+        else
+            table.insert(live, { sessionId, tonumber(createdAt) })
+        end
+    end
+end
+
+local evicted = 0
+if max > 0 and #live >= max then
+    table.sort(live, function(a, b) return a[2] < b[2] end)
+    for i = 1, #live - max + 1 do
+        redis.call('HDEL', KEYS[1], live[i][1])
+        evicted = evicted + 1
+    end
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return evicted
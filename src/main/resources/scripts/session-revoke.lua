@@ -0,0 +1,19 @@
+-- 회원 세션 일괄 폐기
+-- KEYS[1] : rts:{memberId}
+-- ARGV[1] : 유지할 세션 ID, 빈 문자열이면 전체 폐기
+-- 반환 : 폐기된 세션 수
+
+if ARGV[1] == '' then
+    local count = redis.call('HLEN', KEYS[1])
+    redis.call('DEL', KEYS[1])
+    return count
+end
+
+local revoked = 0
+for _, sessionId in ipairs(redis.call('HKEYS', KEYS[1])) do
+    if sessionId ~= ARGV[1] then
+        redis.call('HDEL', KEYS[1], sessionId)
+        revoked = revoked + 1
+    end
+end
+return revoked
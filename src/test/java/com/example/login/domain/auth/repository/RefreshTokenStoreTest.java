@@ -0,0 +1,226 @@
+package com.example.login.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.login.domain.auth.entity.RefreshToken;
+import com.example.login.domain.auth.repository.RefreshTokenStore.RotationResult;
+import com.example.login.domain.auth.repository.RefreshTokenStore.Status;
+import com.example.login.support.RedisContainerSupport;
+
+/**
+ * 세션 저장소 Lua 스크립트 검증 (Docker 필요, 없으면 건너뜀)
+ */
+class RefreshTokenStoreTest extends RedisContainerSupport {
+
+    private static final String MEMBER_ID = "1";
+    private static final String SESSION_ID = "s1";
+
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(redisTemplate);
+    }
+
+    @Test
+    void 현재_토큰이면_새_토큰으로_교체한다() {
+        createSession("d1");
+
+        RotationResult first = rotate("d1", "d2", Duration.ZERO);
+        RotationResult second = rotate("d2", "d3", Duration.ZERO);
+
+        assertThat(first.status()).isEqualTo(Status.OK);
+        assertThat(first.accessToken()).isEqualTo("access-d2");
+        assertThat(first.refreshToken()).isEqualTo("refresh-d2");
+        assertThat(second.status()).isEqualTo(Status.OK);
+    }
+
+    @Test
+    void 교체된_토큰을_다시_쓰면_세션을_폐기한다() {
+        createSession("d1");
+        rotate("d1", "d2", Duration.ZERO);
+
+        assertThat(rotate("d1", "d3", Duration.ZERO).status()).isEqualTo(Status.REUSED);
+        // 정상 사용자의 최신 토큰도 더 이상 쓸 수 없다
+        assertThat(rotate("d2", "d3", Duration.ZERO).status()).isEqualTo(Status.MISSING);
+    }
+
+    @Test
+    void 알_수_없는_토큰은_세션을_유지한다() {
+        createSession("d1");
+
+        assertThat(rotate("unknown", "d2", Duration.ZERO).status()).isEqualTo(Status.MISMATCH);
+        assertThat(rotate("d1", "d2", Duration.ZERO).status()).isEqualTo(Status.OK);
+    }
+
+    @Test
+    void 세션이_없으면_MISSING을_반환한다() {
+        assertThat(rotate("d1", "d2", Duration.ZERO).status()).isEqualTo(Status.MISSING);
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_교체하면_하나만_성공한다() throws Exception {
+        createSession("d1");
+        List<Status> statuses = rotateConcurrently("d1", 8, Duration.ZERO).stream()
+                .map(RotationResult::status)
+                .toList();
+
+        assertThat(statuses).filteredOn(status -> status == Status.OK).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status != Status.OK)
+                .allMatch(status -> status == Status.REUSED || status == Status.MISSING);
+    }
+
+    @Test
+    void 유예_시간_안의_재사용은_이미_발급된_토큰_쌍을_돌려준다() {
+        createSession("d1");
+        rotate("d1", "d2", Duration.ofSeconds(10));
+
+        RotationResult retried = rotate("d1", "d3", Duration.ofSeconds(10));
+
+        assertThat(retried.status()).isEqualTo(Status.GRACE);
+        assertThat(retried.accessToken()).isEqualTo("access-d2");
+        assertThat(retried.refreshToken()).isEqualTo("refresh-d2");
+        // 세션은 유지되고 먼저 발급된 토큰이 계속 유효하다
+        assertThat(rotate("d2", "d4", Duration.ZERO).status()).isEqualTo(Status.OK);
+    }
+
+    @Test
+    void 유예_시간이_지난_재사용은_세션을_폐기한다() throws InterruptedException {
+        createSession("d1");
+        rotate("d1", "d2", Duration.ofMillis(100));
+
+        Thread.sleep(300);
+
+        assertThat(rotate("d1", "d3", Duration.ofMillis(100)).status()).isEqualTo(Status.REUSED);
+        assertThat(rotate("d2", "d3", Duration.ZERO).status()).isEqualTo(Status.MISSING);
+    }
+
+    @Test
+    void 유예_시간이_있으면_동시_교체_요청이_모두_같은_토큰_쌍을_받는다() throws Exception {
+        createSession("d1");
+        List<RotationResult> results = rotateConcurrently("d1", 8, Duration.ofSeconds(10));
+
+        assertThat(results).filteredOn(result -> result.status() == Status.OK).hasSize(1);
+        RotationResult winner = results.stream().filter(result -> result.status() == Status.OK).findFirst().orElseThrow();
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isIssued()).isTrue();
+            assertThat(result.accessToken()).isEqualTo(winner.accessToken());
+            assertThat(result.refreshToken()).isEqualTo(winner.refreshToken());
+        });
+    }
+
+    @Test
+    void 최대_세션_수를_넘으면_가장_오래된_세션부터_제거한다() throws InterruptedException {
+        assertThat(createSession("s1", 2)).isZero();
+        Thread.sleep(5);
+        assertThat(createSession("s2", 2)).isZero();
+        Thread.sleep(5);
+
+        assertThat(createSession("s3", 2)).isEqualTo(1);
+        assertThat(sessionIds()).containsExactlyInAnyOrder("s2", "s3");
+    }
+
+    @Test
+    void 같은_세션_ID로_다시_만들면_덮어쓰고_다른_세션은_유지한다() {
+        createSession("s1", 2);
+        createSession("s2", 2);
+
+        assertThat(createSession("s2", 2)).isZero();
+        assertThat(sessionIds()).containsExactlyInAnyOrder("s1", "s2");
+    }
+
+    @Test
+    void 만료된_세션은_제거_수에_포함하지_않고_정리한다() {
+        long past = System.currentTimeMillis() - 1_000;
+        redisTemplate.opsForHash().put("rts:" + MEMBER_ID, "expired", "d|" + past + "|" + past + "|" + past + "|test");
+
+        assertThat(createSession("s1", 1)).isZero();
+        assertThat(redisTemplate.opsForHash().keys("rts:" + MEMBER_ID)).containsExactly("s1");
+    }
+
+    @Test
+    void 저장한_세션을_조회하고_삭제한다() {
+        createSession("s1", 0);
+
+        assertThat(store.find(MEMBER_ID, "s1"))
+                .hasValueSatisfying(token -> assertThat(token.getTokenDigest()).isEqualTo("digest-s1"));
+        assertThat(store.delete(MEMBER_ID, "s1")).isTrue();
+        assertThat(store.find(MEMBER_ID, "s1")).isEmpty();
+    }
+
+    @Test
+    void 유지할_세션을_제외한_나머지를_폐기한다() {
+        createSession("s1", 0);
+        createSession("s2", 0);
+        createSession("s3", 0);
+
+        assertThat(store.deleteAll(MEMBER_ID, "s2")).isEqualTo(2);
+        assertThat(sessionIds()).containsExactly("s2");
+    }
+
+    @Test
+    void 유지할_세션이_없으면_전체를_폐기한다() {
+        createSession("s1", 0);
+        createSession("s2", 0);
+
+        assertThat(store.deleteAll(MEMBER_ID, null)).isEqualTo(2);
+        assertThat(store.findAll(MEMBER_ID)).isEmpty();
+        assertThat(redisTemplate.hasKey("rts:" + MEMBER_ID)).isFalse();
+    }
+
+    private List<RotationResult> rotateConcurrently(String presentedDigest, int threads, Duration grace)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RotationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String newDigest = "n" + i;
+                Callable<RotationResult> task = () -> {
+                    start.await();
+                    return rotate(presentedDigest, newDigest, grace);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<RotationResult> results = new ArrayList<>();
+            for (Future<RotationResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void createSession(String digest) {
+        store.create(MEMBER_ID, SESSION_ID, digest, System.currentTimeMillis() + 60_000, "test", 0);
+    }
+
+    private long createSession(String sessionId, int maxSessions) {
+        return store.create(MEMBER_ID, sessionId, "digest-" + sessionId, System.currentTimeMillis() + 60_000,
+                "test", maxSessions);
+    }
+
+    private List<String> sessionIds() {
+        return store.findAll(MEMBER_ID).stream().map(RefreshToken::getSessionId).toList();
+    }
+
+    private RotationResult rotate(String presentedDigest, String newDigest, Duration grace) {
+        return store.rotate(MEMBER_ID, SESSION_ID, presentedDigest, newDigest,
+                System.currentTimeMillis() + 60_000, "access-" + newDigest, "refresh-" + newDigest, grace);
+    }
+}
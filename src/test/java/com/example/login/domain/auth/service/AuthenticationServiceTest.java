@@ -0,0 +1,137 @@
+package com.example.login.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.login.domain.auth.dto.response.TokenResponse;
+import com.example.login.domain.auth.repository.RefreshTokenStore.RotationResult;
+import com.example.login.domain.auth.repository.RefreshTokenStore.Status;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.global.exception.BaseException;
+import com.example.login.global.jwt.JWTUtil;
+import com.example.login.global.jwt.JwtTokenService;
+import com.example.login.global.response.ErrorCode;
+
+/**
+ * 같은 Refresh Token으로 동시에 들어온 갱신 요청의 단일 교체(single-flight) 검증
+ */
+class AuthenticationServiceTest {
+
+    private static final String REFRESH_TOKEN = "refresh-old";
+
+    private final JWTUtil jwtUtil = mock(JWTUtil.class);
+    private final JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+    private final TokenValidator tokenValidator = mock(TokenValidator.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+    private final AuthenticationService authenticationService = new AuthenticationService(
+            jwtUtil, jwtTokenService, tokenValidator, refreshTokenService, mock(BlacklistService.class));
+
+    @BeforeEach
+    void setUp() {
+        when(jwtUtil.extractRefreshToken(any())).thenReturn(Optional.of(REFRESH_TOKEN));
+        when(jwtUtil.createAccessToken(anyString(), any(), anyString())).thenReturn("access-new");
+        when(jwtUtil.createRefreshToken(anyString(), any(), anyString(), anyString())).thenReturn("refresh-new");
+        when(tokenValidator.validateRefreshTokenClaims(REFRESH_TOKEN))
+                .thenReturn(TokenValidator.TokenValidationResult.valid("1", "s1", "user@example.com", Role.USER));
+    }
+
+    @Test
+    void 진행_중인_교체가_있으면_그_결과를_공유한다() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(refreshTokenService.rotateToken(eq("1"), eq("s1"), eq(REFRESH_TOKEN), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await();
+                    return new RotationResult(Status.OK, "access-new", "refresh-new");
+                });
+
+        FutureTask<TokenResponse> leader = new FutureTask<>(this::refresh);
+        new Thread(leader).start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        FutureTask<TokenResponse> follower = new FutureTask<>(this::refresh);
+        Thread followerThread = new Thread(follower);
+        followerThread.start();
+        awaitWaiting(followerThread);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).getAccessToken()).isEqualTo("access-new");
+        assertThat(follower.get(5, TimeUnit.SECONDS).getAccessToken()).isEqualTo("access-new");
+        verify(refreshTokenService, times(1)).rotateToken(anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 진행_중인_교체가_실패하면_대기한_요청도_같은_예외를_받는다() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(refreshTokenService.rotateToken(eq("1"), eq("s1"), eq(REFRESH_TOKEN), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await();
+                    return new RotationResult(Status.REUSED, null, null);
+                });
+
+        FutureTask<TokenResponse> leader = new FutureTask<>(this::refresh);
+        new Thread(leader).start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        FutureTask<TokenResponse> follower = new FutureTask<>(this::refresh);
+        Thread followerThread = new Thread(follower);
+        followerThread.start();
+        awaitWaiting(followerThread);
+        release.countDown();
+
+        for (FutureTask<TokenResponse> task : List.of(leader, follower)) {
+            assertThatThrownBy(() -> task.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(BaseException.class)
+                    .cause()
+                    .extracting(cause -> ((BaseException) cause).getErrorCode())
+                    .isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        verify(refreshTokenService, times(1)).rotateToken(anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 교체가_끝난_뒤의_요청은_새로_교체한다() {
+        when(refreshTokenService.rotateToken(eq("1"), eq("s1"), eq(REFRESH_TOKEN), anyString(), anyString()))
+                .thenReturn(new RotationResult(Status.OK, "access-new", "refresh-new"))
+                .thenReturn(new RotationResult(Status.GRACE, "access-new", "refresh-new"));
+
+        refresh();
+        refresh();
+
+        verify(refreshTokenService, times(2)).rotateToken(anyString(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    private TokenResponse refresh() {
+        return authenticationService.refreshAllTokens(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    // 뒤따른 요청이 진행 중인 교체 결과를 기다리기 시작할 때까지 대기
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).as("대기 상태 진입 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
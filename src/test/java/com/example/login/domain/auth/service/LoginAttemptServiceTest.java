@@ -0,0 +1,102 @@
+package com.example.login.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.login.global.config.properties.SecurityProperties;
+import com.example.login.support.RedisContainerSupport;
+
+/**
+ * 로그인 실패 백오프 스크립트(login-failure.lua) 검증 (Docker 필요, 없으면 건너뜀)
+ */
+class LoginAttemptServiceTest extends RedisContainerSupport {
+
+    private static final String EMAIL = "user@example.com";
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        // 2회까지 잠금 없이 허용, 이후 1초부터 2배씩 최대 5초
+        SecurityProperties securityProperties = new SecurityProperties();
+        SecurityProperties.LoginAttempt loginAttempt = securityProperties.getLoginAttempt();
+        loginAttempt.setFreeAttempts(2);
+        loginAttempt.setBaseLock(Duration.ofSeconds(1));
+        loginAttempt.setMaxLock(Duration.ofSeconds(5));
+        loginAttempt.setFailureWindow(Duration.ofMinutes(15));
+        loginAttemptService = new LoginAttemptService(redisTemplate, securityProperties);
+    }
+
+    @Test
+    void 허용_횟수를_넘으면_잠금_시간이_2배씩_늘고_최대값에서_멈춘다() {
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            delays.add(loginAttemptService.recordFailure(EMAIL));
+        }
+
+        assertThat(delays).containsExactly(0L, 0L, 1_000L, 2_000L, 4_000L, 5_000L, 5_000L);
+    }
+
+    @Test
+    void 잠금_시간은_키_TTL로_남는다() {
+        loginAttemptService.recordFailure(EMAIL);
+        loginAttemptService.recordFailure(EMAIL);
+        assertThat(loginAttemptService.isLocked(EMAIL)).isFalse();
+
+        loginAttemptService.recordFailure(EMAIL);
+
+        assertThat(loginAttemptService.remainingLockMillis(EMAIL)).isBetween(1L, 1_000L);
+        assertThat(loginAttemptService.isLocked(EMAIL)).isTrue();
+    }
+
+    @Test
+    void 잠금_이후에도_실패_횟수는_잠금_시간과_보관_시간만큼_유지된다() {
+        loginAttemptService.recordFailure(EMAIL);
+        loginAttemptService.recordFailure(EMAIL);
+        Long freeTtl = redisTemplate.getExpire("la:{" + EMAIL + "}", TimeUnit.MILLISECONDS);
+        loginAttemptService.recordFailure(EMAIL);
+        Long lockedTtl = redisTemplate.getExpire("la:{" + EMAIL + "}", TimeUnit.MILLISECONDS);
+
+        assertThat(freeTtl).isBetween(Duration.ofMinutes(15).toMillis() - 1_000, Duration.ofMinutes(15).toMillis());
+        assertThat(lockedTtl).isGreaterThan(Duration.ofMinutes(15).toMillis());
+    }
+
+    @Test
+    void 로그인에_성공하면_실패_횟수를_초기화한다() {
+        loginAttemptService.recordFailure(EMAIL);
+        loginAttemptService.recordFailure(EMAIL);
+
+        loginAttemptService.recordSuccess(EMAIL);
+
+        assertThat(loginAttemptService.recordFailure(EMAIL)).isZero();
+        assertThat(loginAttemptService.recordFailure(EMAIL)).isZero();
+    }
+
+    @Test
+    void 이메일은_대소문자와_앞뒤_공백을_무시하고_같은_계정으로_센다() {
+        loginAttemptService.recordFailure(" User@Example.com");
+        loginAttemptService.recordFailure("USER@example.com");
+
+        assertThat(loginAttemptService.recordFailure("user@example.COM ")).isEqualTo(1_000L);
+        assertThat(loginAttemptService.isLocked(EMAIL)).isTrue();
+    }
+
+    @Test
+    void 비활성화되면_기록하지_않는다() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getLoginAttempt().setEnabled(false);
+        LoginAttemptService disabled = new LoginAttemptService(redisTemplate, securityProperties);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.recordFailure(EMAIL)).isZero();
+        }
+        assertThat(redisTemplate.hasKey("la:{" + EMAIL + "}")).isFalse();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.login.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.login.domain.member.service.MemberExportService.CsvRowWriter;
+
+class MemberExportCsvTest {
+
+    @Test
+    void 수식으로_해석되는_값은_작은따옴표를_붙인다() {
+        assertThat(CsvRowWriter.escapeFormula("=HYPERLINK(\"http://evil\")")).isEqualTo("'=HYPERLINK(\"http://evil\")");
+        assertThat(CsvRowWriter.escapeFormula("+1")).isEqualTo("'+1");
+        assertThat(CsvRowWriter.escapeFormula("-2+3")).isEqualTo("'-2+3");
+        assertThat(CsvRowWriter.escapeFormula("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(CsvRowWriter.escapeFormula("\t=1")).isEqualTo("'\t=1");
+    }
+
+    @Test
+    void 일반_값은_그대로_둔다() {
+        assertThat(CsvRowWriter.escapeFormula("홍길동")).isEqualTo("홍길동");
+        assertThat(CsvRowWriter.escapeFormula("a@example.com")).isEqualTo("a@example.com");
+        assertThat(CsvRowWriter.escapeFormula("")).isEmpty();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.login.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.dto.response.MemberImportResponse;
+import com.example.login.global.config.properties.PasswordHashingProperties;
+import com.example.login.global.config.properties.SecurityProperties;
+import com.example.login.global.id.TsidGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 일괄 등록 처리량 측정 (로컬 PostgreSQL 필요)
+ * MEMBER_IMPORT_BENCHMARK_URL=jdbc:postgresql://localhost:5432/login 처럼 지정한 경우에만 실행된다
+ * 선택: MEMBER_IMPORT_BENCHMARK_USER, MEMBER_IMPORT_BENCHMARK_PASSWORD, MEMBER_IMPORT_BENCHMARK_ROWS (기본 100000)
+ * DB 배치 경로를 측정하기 위해 BCrypt 비용은 최소(4)로 둔다
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "MEMBER_IMPORT_BENCHMARK_URL", matches = ".+")
+class MemberImportBenchmarkTest {
+
+    private static final String CREATE_TABLE_SQL = """
+            create table if not exists member_table (
+                id bigint primary key,
+                member_email varchar(255) constraint uk_member_email unique,
+                member_name varchar(255),
+                member_password varchar(255),
+                role varchar(255) not null,
+                social_type varchar(255),
+                social_id varchar(255),
+                created_at timestamp(6) not null,
+                updated_at timestamp(6)
+            )""";
+
+    private final String emailPrefix = "bench-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private JdbcTemplate jdbcTemplate;
+    private MemberImportService importService;
+    private int rows;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("MEMBER_IMPORT_BENCHMARK_URL"),
+                envOrDefault("MEMBER_IMPORT_BENCHMARK_USER", "postgres"),
+                envOrDefault("MEMBER_IMPORT_BENCHMARK_PASSWORD", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        TsidGenerator.initialize(0);
+
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setDefaultRole("USER");
+        importService = new MemberImportService(dataSource, new BCryptPasswordEncoder(4), securityProperties,
+                new PasswordHashingProperties(), new ObjectMapper(), mock(EmailBloomFilter.class), 1000, 0, 100);
+        rows = Integer.parseInt(envOrDefault("MEMBER_IMPORT_BENCHMARK_ROWS", "100000"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from member_table where member_email like ?", emailPrefix + "%");
+        importService.shutdown();
+    }
+
+    @Test
+    void 일괄_등록_처리량() throws Exception {
+        byte[] csv = csv(rows);
+
+        long start = System.nanoTime();
+        MemberImportResponse first = importService.importMembers(MemberImportService.Format.CSV,
+                new ByteArrayInputStream(csv));
+        report("신규 등록", rows, System.nanoTime() - start);
+
+        assertThat(first.getInserted()).isEqualTo(rows);
+        assertThat(first.getDuplicates()).isZero();
+
+        // 같은 파일을 다시 올리면 전부 중복으로 보고되어야 함
+        start = System.nanoTime();
+        MemberImportResponse second = importService.importMembers(MemberImportService.Format.CSV,
+                new ByteArrayInputStream(csv));
+        report("전체 중복", rows, System.nanoTime() - start);
+
+        assertThat(second.getInserted()).isZero();
+        assertThat(second.getDuplicates()).isEqualTo(rows);
+    }
+
+    private byte[] csv(int count) {
+        StringBuilder csv = new StringBuilder("memberEmail,memberName,memberPassword\n");
+        for (int i = 0; i < count; i++) {
+            csv.append(emailPrefix).append(i).append("@example.com,")
+                    .append("member").append(i).append(",password").append(i).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void report(String label, int count, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("[{}] {}행, {}초, {}행/초", label, count,
+                String.format("%.2f", seconds), String.format("%.0f", count / seconds));
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
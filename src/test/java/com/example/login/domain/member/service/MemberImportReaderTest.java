@@ -0,0 +1,54 @@
+package com.example.login.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.login.domain.member.dto.response.MemberImportResponse.Reason;
+import com.example.login.domain.member.service.MemberImportReader.ImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MemberImportReaderTest {
+
+    @Test
+    void 컬럼_길이를_넘는_이름은_저장_전에_거절한다() throws IOException {
+        String longName = "가".repeat(256);
+        MemberImportReader reader = csv("memberEmail,memberName,memberPassword\n"
+                + "a@example.com," + longName + ",password1\n"
+                + "b@example.com," + "가".repeat(255) + ",password2\n");
+
+        ImportRow tooLong = reader.next();
+        ImportRow fits = reader.next();
+
+        assertThat(tooLong.rejected()).isEqualTo(Reason.FIELD_TOO_LONG);
+        assertThat(tooLong.line()).isEqualTo(2);
+        assertThat(fits.rejected()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 필수_값이_없거나_형식이_틀리면_행별_사유로_거절한다() throws IOException {
+        MemberImportReader reader = MemberImportReader.ndjson(new BufferedReader(new StringReader("""
+                {"memberEmail":"a@example.com","memberName":"홍길동"}
+                {"memberEmail":"not-an-email","memberName":"홍길동","memberPassword":"password"}
+                [1, 2]
+                {"memberEmail":" c@example.com ","memberName":" 홍길동 ","memberPassword":"password"}
+                """)), new ObjectMapper());
+
+        assertThat(reader.next().rejected()).isEqualTo(Reason.MISSING_FIELD);
+        assertThat(reader.next().rejected()).isEqualTo(Reason.INVALID_EMAIL);
+        assertThat(reader.next().rejected()).isEqualTo(Reason.MALFORMED_ROW);
+        ImportRow valid = reader.next();
+        assertThat(valid.rejected()).isNull();
+        assertThat(valid.email()).isEqualTo("c@example.com");
+        assertThat(valid.name()).isEqualTo("홍길동");
+    }
+
+    private static MemberImportReader csv(String text) throws IOException {
+        return MemberImportReader.csv(new BufferedReader(new StringReader(text)));
+    }
+}
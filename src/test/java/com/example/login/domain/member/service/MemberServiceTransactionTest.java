@@ -0,0 +1,210 @@
+package com.example.login.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.login.domain.auth.service.RevocationEpochService;
+import com.example.login.domain.member.cache.EmailBloomFilter;
+import com.example.login.domain.member.cache.MemberCache;
+import com.example.login.domain.member.dto.request.MemberSaveRequest;
+import com.example.login.domain.member.dto.request.MemberUpdateRequest;
+import com.example.login.domain.member.entity.MemberEntity;
+import com.example.login.domain.member.entity.Role;
+import com.example.login.domain.member.repository.MemberRepository;
+import com.example.login.global.config.properties.SecurityProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 쓰기 경로의 트랜잭션(= DB 커넥션) 점유 시간 측정
+ * 해시 연산이 트랜잭션 밖에서 수행되어, 커넥션 점유 시간이 해시 시간과 무관한지 확인한다
+ */
+@Slf4j
+@SpringJUnitConfig(MemberServiceTransactionTest.Config.class)
+class MemberServiceTransactionTest {
+
+    private static final long HASH_MILLIS = 200L;
+    // 해시 시간보다 충분히 짧아야 함 (mock 저장소이므로 실제로는 수 ms 이내)
+    private static final long MAX_HOLD_MILLIS = 50L;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    @Autowired
+    private SlowPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager.holdNanos.clear();
+        passwordEncoder.encodedInTransaction.clear();
+        when(memberRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(memberRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void 회원가입_해시는_트랜잭션_밖에서_수행되고_커넥션은_짧게_점유한다() {
+        MemberSaveRequest request = new MemberSaveRequest();
+        request.setMemberEmail("user@example.com");
+        request.setMemberName("홍길동");
+        request.setMemberPassword("password123!");
+
+        memberService.save(request);
+
+        assertThat(passwordEncoder.encodedInTransaction).containsExactly(false);
+        assertHoldTime("save");
+    }
+
+    @Test
+    void 회원수정_해시는_트랜잭션_밖에서_수행되고_커넥션은_짧게_점유한다() {
+        MemberEntity member = MemberEntity.builder()
+                .id(1L)
+                .memberEmail("user@example.com")
+                .memberName("홍길동")
+                .memberPassword("old")
+                .role(Role.USER)
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        memberService.update(MemberUpdateRequest.builder()
+                .id(1L)
+                .memberEmail("user@example.com")
+                .memberName("김수정")
+                .memberPassword("newPassword456!")
+                .build());
+
+        assertThat(passwordEncoder.encodedInTransaction).containsExactly(false);
+        assertHoldTime("update");
+    }
+
+    private void assertHoldTime(String operation) {
+        List<Long> holds = transactionManager.holdNanos;
+        assertThat(holds).hasSize(1);
+        long holdMillis = TimeUnit.NANOSECONDS.toMillis(holds.get(0));
+        log.info("[{}] 해시 {}ms, 트랜잭션(커넥션) 점유 {}ms", operation, HASH_MILLIS, holdMillis);
+        assertThat(holdMillis)
+                .as("[%s] 해시 %dms 동안 트랜잭션(커넥션) 점유 시간", operation, HASH_MILLIS)
+                .isLessThan(MAX_HOLD_MILLIS);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({MemberService.class, MemberWriter.class})
+    static class Config {
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+
+        @Bean
+        SlowPasswordEncoder passwordEncoder() {
+            return new SlowPasswordEncoder();
+        }
+
+        @Bean
+        MemberRepository memberRepository() {
+            return mock(MemberRepository.class);
+        }
+
+        @Bean
+        MemberCache memberCache() {
+            return mock(MemberCache.class);
+        }
+
+        @Bean
+        EmailBloomFilter emailBloomFilter() {
+            return mock(EmailBloomFilter.class);
+        }
+
+        @Bean
+        RevocationEpochService revocationEpochService() {
+            return mock(RevocationEpochService.class);
+        }
+
+        @Bean
+        SecurityProperties securityProperties() {
+            SecurityProperties properties = new SecurityProperties();
+            properties.setDefaultRole("USER");
+            return properties;
+        }
+    }
+
+    // 실제 트랜잭션 시작부터 커밋/롤백까지의 시간 기록 (JPA에서는 이 구간 동안 커넥션을 점유)
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final List<Long> holdNanos = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new long[1];
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((long[]) transaction)[0] = System.nanoTime();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            record(status);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            record(status);
+        }
+
+        private void record(DefaultTransactionStatus status) {
+            holdNanos.add(System.nanoTime() - ((long[]) status.getTransaction())[0]);
+        }
+    }
+
+    // BCrypt 수준의 지연을 흉내내고, 호출 시점에 트랜잭션이 열려 있었는지 기록
+    static class SlowPasswordEncoder implements PasswordEncoder {
+
+        final List<Boolean> encodedInTransaction = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            encodedInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            try {
+                Thread.sleep(HASH_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("{noop}" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.login.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "192.168.0.10"));
+
+    @Test
+    void 신뢰하지_않는_접속지의_전달_헤더는_무시한다() {
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+        request.addHeader("X-Real-IP", "198.51.100.2");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 신뢰하는_프록시_뒤에서는_가장_가까운_신뢰하지_않는_주소를_사용한다() {
+        // 클라이언트가 왼쪽에 임의 값을 넣어도 프록시가 추가한 실제 주소가 선택됨
+        MockHttpServletRequest request = request("10.1.2.3", "1.2.3.4, 203.0.113.7, 192.168.0.10");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 해석할_수_없는_값은_클라이언트_IP로_사용하지_않는다() {
+        MockHttpServletRequest request = request("10.1.2.3", "not-an-ip");
+
+        assertThat(resolver.resolve(request)).isEqualTo("10.1.2.3");
+    }
+
+    @Test
+    void 신뢰_프록시가_없으면_항상_접속_IP를_사용한다() {
+        ClientIpResolver noProxy = new ClientIpResolver(List.of());
+
+        assertThat(noProxy.resolve(request("10.1.2.3", "203.0.113.7"))).isEqualTo("10.1.2.3");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String xForwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", xForwardedFor);
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.login.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HeavyHitterLimiterTest {
+
+    @Test
+    void 같은_24비트_대역의_여러_IP가_각자_한도_안에서_로그인하면_모두_허용한다() {
+        HeavyHitterLimiter limiter = limiter();
+        RateLimitPolicy login = loginPolicy();
+
+        // 20개 IP x 5회 = 대역 전체 100회 (임계치 30, 대역 한도 5 x 16 = 80 + 임계치 전 29회)
+        for (int host = 1; host <= 20; host++) {
+            String ip = "203.0.113." + host;
+            for (int attempt = 0; attempt < 5; attempt++) {
+                assertThat(limiter.tryAcquire(login, "ip:" + ip, ip)).as("%s %d번째", ip, attempt + 1).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void 임계치_미만이어도_버킷이_작은_정책은_클라이언트_한도를_적용한다() {
+        HeavyHitterLimiter limiter = limiter();
+        RateLimitPolicy login = loginPolicy();
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThat(limiter.tryAcquire(login, "ip:203.0.113.7", "203.0.113.7")).isTrue();
+        }
+        assertThat(limiter.tryAcquire(login, "ip:203.0.113.7", "203.0.113.7")).isFalse();
+    }
+
+    @Test
+    void 대역_한도를_넘으면_대역_전체를_거절한다() {
+        HeavyHitterLimiter limiter = limiter();
+        RateLimitPolicy login = loginPolicy();
+
+        int rejected = 0;
+        for (int host = 0; host < 250; host++) {
+            String ip = "198.51.100." + host;
+            if (!limiter.tryAcquire(login, "ip:" + ip, ip)) {
+                rejected++;
+            }
+        }
+        // 임계치 전 29회 + 대역 버킷 80회 이후로는 IP마다 첫 요청이어도 거절
+        assertThat(rejected).isGreaterThan(100);
+        // 다른 대역은 영향 없음
+        assertThat(limiter.tryAcquire(login, "ip:203.0.113.7", "203.0.113.7")).isTrue();
+    }
+
+    private static HeavyHitterLimiter limiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getSketch().setEnabled(true);
+        properties.getSketch().setThreshold(30);
+        properties.getSketch().setSubnetMultiplier(16);
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(properties);
+        RateLimitEnforcer enforcer = new RateLimitEnforcer(
+                new RateLimiterStore(properties, new SimpleMeterRegistry()),
+                mock(DistributedRateLimiter.class), properties);
+        return new HeavyHitterLimiter(properties, enforcer, registry);
+    }
+
+    // 운영 설정의 로그인 정책과 같은 1분 5회
+    private static RateLimitPolicy loginPolicy() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName("login");
+        policy.setPattern("/api/auth/login");
+        policy.setLimit(5);
+        policy.setPeriod(Duration.ofMinutes(1));
+        return RateLimitPolicy.from(policy);
+    }
+
+    @Test
+    void IPv4는_24비트_대역으로_묶는다() {
+        assertThat(HeavyHitterLimiter.subnetOf("203.0.113.7")).isEqualTo("203.0.113.0/24");
+    }
+
+    @Test
+    void IPv6는_생략_표기와_무관하게_48비트_대역으로_묶는다() {
+        assertThat(HeavyHitterLimiter.subnetOf("2001:db8::1")).isEqualTo("2001:db8::/48");
+        assertThat(HeavyHitterLimiter.subnetOf("2001:db8:0:0:0:0:0:1")).isEqualTo("2001:db8::/48");
+        assertThat(HeavyHitterLimiter.subnetOf("2001:db8:abcd:12::1")).isEqualTo("2001:db8:abcd::/48");
+        assertThat(HeavyHitterLimiter.subnetOf("::1")).isEqualTo("::/48");
+    }
+
+    @Test
+    void IP_형식이_아니면_그대로_반환한다() {
+        assertThat(HeavyHitterLimiter.subnetOf("unknown")).isEqualTo("unknown");
+    }
+}
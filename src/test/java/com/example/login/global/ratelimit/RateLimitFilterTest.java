@@ -0,0 +1,77 @@
+package com.example.login.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+import com.example.login.global.jwt.AccessTokenCache;
+import com.example.login.global.jwt.JWTUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+    @Test
+    void 퍼센트_인코딩된_로그인_경로도_같은_정책과_버킷을_사용한다() throws Exception {
+        RateLimitFilter filter = filter(policy("login", "/api/auth/login", RateLimitProperties.KeyType.IP, 5));
+
+        List<String> variants = List.of("/api/auth/login", "/api/auth/%6Cogin", "/api/auth/%6c%6Fgin",
+                "//api/auth/login", "/api/auth/login;jsessionid=abc");
+        for (String uri : variants) {
+            assertThat(status(filter, uri)).as(uri).isEqualTo(HttpStatus.OK.value());
+        }
+
+        assertThat(status(filter, "/api/auth/%6Cogin")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void IP_PATH_정책은_인코딩_변형을_같은_경로로_센다() throws Exception {
+        RateLimitFilter filter = filter(policy("items", "/api/items/*", RateLimitProperties.KeyType.IP_PATH, 2));
+
+        assertThat(status(filter, "/api/items/a")).isEqualTo(HttpStatus.OK.value());
+        assertThat(status(filter, "/api/items/%61")).isEqualTo(HttpStatus.OK.value());
+        assertThat(status(filter, "/api/items/%61")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        // 다른 경로는 별도 버킷
+        assertThat(status(filter, "/api/items/b")).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private static int status(RateLimitFilter filter, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, RateLimitProperties.KeyType key,
+                                                     int limit) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPattern(pattern);
+        policy.setKey(key);
+        policy.setLimit(limit);
+        policy.setPeriod(Duration.ofMinutes(1));
+        return policy;
+    }
+
+    private static RateLimitFilter filter(RateLimitProperties.Policy policy) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy));
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(properties);
+        RateLimitEnforcer enforcer = new RateLimitEnforcer(
+                new RateLimiterStore(properties, new SimpleMeterRegistry()),
+                mock(DistributedRateLimiter.class), properties);
+        return new RateLimitFilter(registry, enforcer, new HeavyHitterLimiter(properties, enforcer, registry),
+                mock(AccessTokenCache.class), mock(JWTUtil.class), new ObjectMapper(),
+                new ClientIpResolver(List.of()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.login.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.login.global.config.properties.RateLimitProperties;
+
+class RateLimitPolicyMatcherTest {
+
+    private final RateLimitPolicyMatcher matcher = compile(
+            "/api/**",
+            "/api/users/*",
+            "/api/users/me",
+            "/api/users/*/sessions",
+            "/api/join",
+            "/api/join/email-check",
+            "/oauth2/**");
+
+    @Test
+    void 정확히_일치하는_세그먼트가_와일드카드보다_우선한다() {
+        assertThat(nameOf("/api/users/me")).isEqualTo("/api/users/me");
+        assertThat(nameOf("/api/join/email-check")).isEqualTo("/api/join/email-check");
+        assertThat(nameOf("/api/join")).isEqualTo("/api/join");
+    }
+
+    @Test
+    void 한_세그먼트_와일드카드가_다중_와일드카드보다_우선한다() {
+        assertThat(nameOf("/api/users/42")).isEqualTo("/api/users/*");
+        assertThat(nameOf("/api/users/42/sessions")).isEqualTo("/api/users/*/sessions");
+    }
+
+    @Test
+    void 정확한_경로가_끝까지_맞지_않으면_와일드카드로_되돌아간다() {
+        // users/me 아래에는 sessions 정책이 없으므로 '*' 가지에서 찾는다
+        assertThat(nameOf("/api/users/me/sessions")).isEqualTo("/api/users/*/sessions");
+        assertThat(nameOf("/api/users/42/devices")).isEqualTo("/api/**");
+        assertThat(nameOf("/api/join/other")).isEqualTo("/api/**");
+    }
+
+    @Test
+    void 다중_와일드카드는_0개_이상의_세그먼트와_일치한다() {
+        assertThat(nameOf("/oauth2")).isEqualTo("/oauth2/**");
+        assertThat(nameOf("/oauth2/authorization/google")).isEqualTo("/oauth2/**");
+        assertThat(nameOf("/api")).isEqualTo("/api/**");
+    }
+
+    @Test
+    void 중복되거나_끝에_붙은_슬래시는_무시한다() {
+        assertThat(nameOf("//api//users/me/")).isEqualTo("/api/users/me");
+    }
+
+    @Test
+    void 일치하는_정책이_없으면_null을_반환한다() {
+        assertThat(matcher.match("/login")).isNull();
+        assertThat(matcher.match("/")).isNull();
+    }
+
+    @Test
+    void 다중_와일드카드가_마지막이_아니면_컴파일에_실패한다() {
+        assertThatThrownBy(() -> compile("/api/**/users"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String nameOf(String path) {
+        RateLimitPolicy policy = matcher.match(path);
+        assertThat(policy).as("%s에 일치하는 정책", path).isNotNull();
+        return policy.getName();
+    }
+
+    // 정책 이름은 패턴으로 대신한다
+    private static RateLimitPolicyMatcher compile(String... patterns) {
+        return RateLimitPolicyMatcher.compile(Arrays.stream(patterns)
+                .map(pattern -> {
+                    RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+                    policy.setPattern(pattern);
+                    policy.setLimit(10);
+                    return policy;
+                })
+                .toList());
+    }
+}